@@ -2,6 +2,7 @@ module org.example.asteroidsrevamped {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires org.example.asteroidsrevamped.core;
 
 
     opens org.example.asteroidsrevamped to javafx.fxml;
@@ -0,0 +1,81 @@
+package org.example.asteroidsrevamped;
+
+import javafx.fxml.FXMLLoader;
+import org.example.asteroidsrevamped.core.GameSession;
+
+/**
+ * State shared by the scenes of one game window (sound pool, player name, menu flags), handed to every scene controller
+ * instead of living in static fields.
+ *
+ * @author Jose Silva
+ */
+public class AppContext {
+
+    private final SoundPool soundPool;
+
+    private String playerName = GameSession.DEFAULT_PLAYER_NAME;
+    private boolean playerHasEnteredName;
+    // Set once a game was started, so that going back to the menu restarts the background music
+    private boolean restartBackgroundMusic;
+
+    /**
+     * Creates the context of a window.
+     *
+     * @param soundPool The sound pool used by every scene of the window.
+     */
+    public AppContext(SoundPool soundPool) {
+        this.soundPool = soundPool;
+    }
+
+    /**
+     * Creates a loader for one of the scenes, whose controller receives this context before it is initialized.
+     *
+     * @param fxml The name of the FXML file, next to the scene controllers.
+     * @return The loader, ready to load.
+     */
+    public FXMLLoader createLoader(String fxml) {
+        FXMLLoader loader = new FXMLLoader(AppContext.class.getResource(fxml));
+        loader.setControllerFactory(type -> {
+            try {
+                Object controller = type.getDeclaredConstructor().newInstance();
+                if (controller instanceof SceneController sceneController) {
+                    sceneController.setContext(this);
+                }
+                return controller;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create " + type.getName(), e);
+            }
+        });
+        return loader;
+    }
+
+    public SoundPool getSoundPool() {
+        return soundPool;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Sets the name the next games are played under.
+     *
+     * @param playerName The name entered in the main menu.
+     */
+    public void setPlayerName(String playerName) {
+        this.playerName = playerName;
+        this.playerHasEnteredName = true;
+    }
+
+    public boolean hasPlayerEnteredName() {
+        return playerHasEnteredName;
+    }
+
+    public boolean isRestartBackgroundMusic() {
+        return restartBackgroundMusic;
+    }
+
+    public void setRestartBackgroundMusic(boolean restartBackgroundMusic) {
+        this.restartBackgroundMusic = restartBackgroundMusic;
+    }
+}
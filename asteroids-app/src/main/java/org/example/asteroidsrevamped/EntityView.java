@@ -0,0 +1,194 @@
+package org.example.asteroidsrevamped;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Shape;
+import org.example.asteroidsrevamped.core.AlphaMask;
+import org.example.asteroidsrevamped.core.Asteroid;
+import org.example.asteroidsrevamped.core.AsteroidArchetype;
+import org.example.asteroidsrevamped.core.Entity;
+import org.example.asteroidsrevamped.core.Laser;
+import org.example.asteroidsrevamped.core.Spaceship;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The nodes drawing one simulation entity: its image, and a copy of its collision bounds shown when debugging.
+ * Only used on the JavaFX Application Thread.
+ *
+ * @author Jose Silva
+ */
+public class EntityView {
+
+    private static final Image SPACESHIP_IMAGE = loadImage("/images/spaceship.png");
+    private static final Image LASER_IMAGE = loadImage("/images/laser.png");
+    // Asteroid sprites named by the asteroid types, loaded the first time a type is drawn. They ship with the
+    // simulation, which computes their collision masks
+    private static final Map<String, Image> SPRITES = new HashMap<>();
+
+    /**
+     * The ImageView representing the entity's visual appearance.
+     */
+    private final ImageView view;
+
+    /**
+     * Copy of the collision bounds drawn on the scene for debugging purposes.
+     */
+    private final Shape debugBounds;
+
+    // The spaceship is placed through its layout position and its bounds rotate with it
+    private final boolean spaceship;
+
+    // Image shown at full health, and once the entity has fewer hit points than it started with, if any
+    private final Image image;
+    private final Image damagedImage;
+    private final int fullHitPoints;
+
+    /**
+     * Scene state, only touched by the renderer.
+     */
+    boolean viewAttached;
+    boolean debugBoundsAttached;
+    long renderedFrame;
+
+    private EntityView(Image image, double width, double height, Shape debugBounds, boolean spaceship,
+                       Image damagedImage, int fullHitPoints) {
+        this.image = image;
+        this.view = new ImageView(image);
+        this.view.setFitWidth(width);
+        this.view.setFitHeight(height);
+        this.debugBounds = debugBounds;
+        this.spaceship = spaceship;
+        this.damagedImage = damagedImage;
+        this.fullHitPoints = fullHitPoints;
+    }
+
+    /**
+     * Creates the view matching an entity.
+     *
+     * @param entity The entity to draw.
+     * @return A new view for the entity.
+     */
+    public static EntityView create(Entity entity) {
+        return switch (entity) {
+            case Spaceship ship -> new EntityView(SPACESHIP_IMAGE, Spaceship.SIZE, Spaceship.SIZE,
+                    new SpaceshipShape().getShape(), true, null, 0);
+            case Laser laser -> new EntityView(LASER_IMAGE, Laser.LASER_WIDTH, Laser.LASER_HEIGHT,
+                    new Circle(laser.getRadius()), false, null, 0);
+            case Asteroid asteroid -> asteroidView(asteroid.getArchetype());
+            default -> throw new IllegalArgumentException("No view for " + entity.getClass().getSimpleName());
+        };
+    }
+
+    private static EntityView asteroidView(AsteroidArchetype archetype) {
+        Image damagedImage = archetype.getDamagedSprite() != null ? sprite(archetype.getDamagedSprite()) : null;
+        return new EntityView(sprite(archetype.getSprite()), archetype.getSize(), archetype.getSize(),
+                new Circle(archetype.getRadius()), false, damagedImage, archetype.getHitPoints());
+    }
+
+    private static Image sprite(String path) {
+        return SPRITES.computeIfAbsent(path, EntityView::loadSprite);
+    }
+
+    private static Image loadSprite(String path) {
+        try (InputStream in = AlphaMask.openSprite(path)) {
+            return new Image(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the sprite " + path, e);
+        }
+    }
+
+    private static Image loadImage(String path) {
+        return new Image(Objects.requireNonNull(EntityView.class.getResourceAsStream(path)));
+    }
+
+    /**
+     * Writes a rendered state onto the entity's view.
+     *
+     * @param x The x-coordinate of the view.
+     * @param y The y-coordinate of the view.
+     * @param rotation The rotation of the view in degrees.
+     */
+    public void renderState(double x, double y, double rotation) {
+        if (spaceship) {
+            view.setLayoutX(x);
+            view.setLayoutY(y);
+        } else {
+            view.setX(x);
+            view.setY(y);
+        }
+        view.setRotate(rotation);
+    }
+
+    /**
+     * Moves the debug copy of the collision bounds to where the simulation placed the bounds.
+     *
+     * @param boundsX The x layout position of the bounds.
+     * @param boundsY The y layout position of the bounds.
+     * @param rotation The rotation of the bounds in degrees.
+     */
+    public void renderDebugBounds(double boundsX, double boundsY, double rotation) {
+        debugBounds.setLayoutX(boundsX);
+        debugBounds.setLayoutY(boundsY);
+        if (spaceship) {
+            debugBounds.setRotate(rotation);
+        }
+    }
+
+    /**
+     * Updates the entity's view depending on its remaining hit points. Pooled entities come back with all their hit
+     * points and keep their view, so the full health image is put back as well.
+     *
+     * @param hitPoints The entity's remaining hit points.
+     */
+    public void renderHitPoints(int hitPoints) {
+        if (damagedImage == null) {
+            return;
+        }
+        Image shown = hitPoints < fullHitPoints ? damagedImage : image;
+        if (view.getImage() != shown) {
+            view.setImage(shown);
+        }
+    }
+
+    /**
+     * Gets the ImageView representing the entity's visual appearance.
+     *
+     * @return The ImageView representing the entity's view.
+     */
+    public ImageView getView() {
+        return view;
+    }
+
+    /**
+     * Makes the entity's collision bounds visible on the pane.
+     * This method adds a copy of the bounds shape to the pane with a red stroke for debugging purposes.
+     * @param pane The pane where the entity is located.
+     */
+    public void makeBoundsVisible(Pane pane) {
+        debugBounds.setVisible(true);
+        debugBounds.setFill(Color.TRANSPARENT);
+        debugBounds.setStroke(Color.RED);
+        debugBounds.setStrokeWidth(2);
+        pane.getChildren().add(debugBounds);
+    }
+
+    /**
+     * Makes the entity's collision bounds invisible on the pane.
+     * This method removes the bounds shape from the pane.
+
+     * @param pane The pane where the entity is located.
+     */
+    public void makeBoundsInvisible(Pane pane) {
+        debugBounds.setVisible(false);
+        pane.getChildren().remove(debugBounds);
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.asteroidsrevamped;
+
+/**
+ * Turns off optional work, in the order of {@link OptionalWork}, while frames overrun the time between two pulses,
+ * and turns it back on once they have had enough headroom for a while.
+ *
+ * @author Jose Silva
+ */
+public class FrameBudgetGovernor {
+
+    /**
+     * Optional work, in the order it is shed under load.
+     */
+    public enum OptionalWork {
+        DEBUG_BOUNDS,
+        FPS_LABEL,
+        OFFSCREEN_ROTATION,
+        SOUND_EFFECTS
+    }
+
+    // Weight of the newest frame in the average frame load
+    private static final double SMOOTHING = 0.1;
+    // Share of the frame budget above which a frame counts as overloaded
+    private static final double OVERLOAD_FACTOR = 0.9;
+    // Share of the frame budget below which a frame counts as having headroom
+    private static final double HEADROOM_FACTOR = 0.6;
+    // Consecutive frames needed before shedding or restoring one more item
+    private static final int FRAMES_TO_DEGRADE = 30;
+    private static final int FRAMES_TO_RESTORE = 120;
+
+    // Average share of the frame budget spent working
+    private double averageLoad;
+    private int overloadedFrames;
+    private int headroomFrames;
+
+    /**
+     * Number of optional work items currently turned off. Read by the simulation thread.
+     */
+    private volatile int level;
+
+    /**
+     * Creates a governor with every optional work item turned on.
+     */
+    public FrameBudgetGovernor() {
+    }
+
+    /**
+     * Records the cost of one frame and adjusts the degradation level if needed.
+     *
+     * @param frameCostNanos The time spent working in the frame, in nanoseconds.
+     * @param frameBudgetNanos The time since the previous frame, in nanoseconds.
+     * @return True if the degradation level changed.
+     */
+    public boolean recordFrame(long frameCostNanos, long frameBudgetNanos) {
+        if (frameBudgetNanos <= 0) {
+            return false;
+        }
+        averageLoad += ((double) frameCostNanos / frameBudgetNanos - averageLoad) * SMOOTHING;
+
+        if (averageLoad > OVERLOAD_FACTOR) {
+            overloadedFrames++;
+            headroomFrames = 0;
+        } else if (averageLoad < HEADROOM_FACTOR) {
+            headroomFrames++;
+            overloadedFrames = 0;
+        } else {
+            overloadedFrames = 0;
+            headroomFrames = 0;
+        }
+
+        if (overloadedFrames >= FRAMES_TO_DEGRADE && level < OptionalWork.values().length) {
+            setLevel(level + 1);
+            return true;
+        }
+        if (headroomFrames >= FRAMES_TO_RESTORE && level > 0) {
+            setLevel(level - 1);
+            return true;
+        }
+        return false;
+    }
+
+    private void setLevel(int level) {
+        this.level = level;
+        overloadedFrames = 0;
+        headroomFrames = 0;
+        System.out.printf("Frame budget governor: level %d, frames using %.0f%% of their budget, shedding %s%n",
+                level, averageLoad * 100, describeShedWork());
+    }
+
+    private String describeShedWork() {
+        if (level == 0) {
+            return "nothing";
+        }
+        StringBuilder shed = new StringBuilder();
+        for (int i = 0; i < level; i++) {
+            if (i > 0) {
+                shed.append(", ");
+            }
+            shed.append(OptionalWork.values()[i]);
+        }
+        return shed.toString();
+    }
+
+    /**
+     * Gets the current degradation level.
+     *
+     * @return The number of optional work items turned off, from 0 to the number of {@link OptionalWork} items.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether a piece of optional work should still be done.
+     *
+     * @param work The optional work.
+     * @return True if the work is enabled at the current degradation level.
+     */
+    public boolean isEnabled(OptionalWork work) {
+        return work.ordinal() >= level;
+    }
+}
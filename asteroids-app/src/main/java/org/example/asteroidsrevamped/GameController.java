@@ -0,0 +1,624 @@
+package org.example.asteroidsrevamped;
+
+import javafx.animation.AnimationTimer;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import org.example.asteroidsrevamped.core.GameSession;
+import org.example.asteroidsrevamped.core.GameWorld;
+import org.example.asteroidsrevamped.core.SimulationThread;
+import org.example.asteroidsrevamped.core.SnapshotExchange;
+import org.example.asteroidsrevamped.core.TickRate;
+import org.example.asteroidsrevamped.core.WorldExporter;
+import org.example.asteroidsrevamped.core.WorldSnapshot;
+
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * This class controls the overall game flow.
+ * It runs the game loop that steps the {@link GameWorld} and draws it, and manages the game labels, buttons and pausing.
+ *
+ * @author Jose Silva
+ */
+public class GameController extends SceneController {
+
+    @FXML
+    private Pane gamePane;
+    // Constant representing the number of nanoseconds in one second
+    private static final double NANOS_PER_SECOND = 1000000000;
+    public static final double WINDOW_WIDTH = GameWorld.WIDTH;
+    public static final double WINDOW_HEIGHT = GameWorld.HEIGHT;
+
+    private static final double NANOS_TO_SECONDS = 1.0 / 1_000_000_000.0;
+    // Longest frame the loop will catch up on, anything above is dropped to prevent a spiral of death
+    private static final double MAX_FRAME_TIME = 0.25;
+    // A frame falls behind when its simulation steps take more than this share of the frame
+    private static final double BEHIND_LOAD_FACTOR = 0.75;
+    // Consecutive frames behind before the adaptive mode lowers the tick rate
+    private static final int BEHIND_FRAMES_LIMIT = 60;
+
+    // Debug FPS counter
+    private Label fpsCounter;
+    private long frameCount = 0;
+    private long lastFpsUpdate = 0;
+
+    // Turns optional work off when frames overrun their budget
+    private final FrameBudgetGovernor governor = new FrameBudgetGovernor();
+
+    // Fixed simulation rate currently used by the game loop
+    private TickRate tickRate = GameSettings.getTickRate();
+    private double fixedTimeStep = tickRate.getTimeStep();
+    // Consecutive frames in which the simulation could not keep up
+    private int framesBehind = 0;
+
+    // Game labels
+    private Label levelLabel;
+    private Label scoreLabel;
+    private Label pauseLabel;
+    private Label gameOverLabel;
+
+    // Game buttons
+    private Button backButton;
+    private Button restartButton;
+
+    // The game being played: player name, pause and debug flags
+    private GameSession session;
+    // The game simulation, stepped by the game loop or the simulation thread
+    private GameWorld world;
+    private boolean gameOverShown;
+
+    // Hands the world state from the simulation over to the renderer
+    private final SnapshotExchange snapshots = new SnapshotExchange();
+    private WorldRenderer renderer;
+    private GameHud hud;
+    // Runs the simulation away from the JavaFX thread, when enabled in the game settings
+    private SimulationThread simulationThread;
+    // Set on restart, the simulation thread then resets the world and publishes it on its next tick
+    private volatile boolean resetRequested;
+    // Last snapshot published before the restart, not shown any more
+    private long restartSequence;
+    // Shares the world state with other processes, when enabled in the game settings
+    private WorldExporter exporter;
+
+    // Pauses the game while the window is unfocused or minimized
+    private WindowThrottle windowThrottle;
+    private boolean pausedByThrottle;
+
+    // Values currently shown on the labels
+    private int displayedScore;
+    private int displayedLevel;
+
+
+    // ================================================================================================
+    //                                    Game loop
+    // ================================================================================================
+
+    /**
+     * The main game loop that handles game updates on each frame. Capped at ≈ 60FPS.
+     */
+    private AnimationTimer gameLoop = new AnimationTimer() {
+        private long lastUpdate = 0;
+        private double accumulator = 0;
+
+        @Override
+        public void start() {
+            // Measure the first frame from now, so time spent stopped is not simulated on resume
+            lastUpdate = 0;
+            super.start();
+        }
+
+        @Override
+        public void handle(long now) {
+            if (lastUpdate == 0) {
+                lastUpdate = now;
+                return;
+            }
+            long frameStart = System.nanoTime();
+            long frameInterval = now - lastUpdate;
+            lastUpdate = now;
+
+            // Update FPS counter
+            updateFpsCounter(now);
+
+            if (simulationThread != null) {
+                // The simulation runs on its own thread, only show its latest state
+                WorldSnapshot snapshot = snapshots.getLatest();
+                if (snapshot.getSequence() > restartSequence) {
+                    double sinceTick = (now - snapshot.getPublishTime()) * NANOS_TO_SECONDS;
+                    // Blend over the step the snapshot came from, the tick rate may have changed since
+                    double alpha = Math.max(0, Math.min(1, sinceTick / snapshot.getTimeStep()));
+                    render(snapshot, alpha);
+                }
+            } else {
+                stepAndRender(frameInterval * NANOS_TO_SECONDS);
+            }
+
+            // Shed or restore optional work depending on how much of the frame was used
+            if (governor.recordFrame(System.nanoTime() - frameStart, frameInterval)) {
+                applyGovernorLevel();
+            }
+        }
+
+        /**
+         * Runs as many fixed simulation steps as the elapsed time calls for, then renders the result.
+         *
+         * @param deltaTime The time elapsed since the previous frame, in seconds.
+         */
+        private void stepAndRender(double deltaTime) {
+            // Pick up tick rate changes made at runtime
+            if (tickRate != GameSettings.getTickRate()) {
+                setTickRate(GameSettings.getTickRate());
+            }
+
+            // Prevent spiral of death
+            boolean frameDropped = false;
+            if (deltaTime > MAX_FRAME_TIME) {
+                deltaTime = MAX_FRAME_TIME;
+                frameDropped = true;
+            }
+
+            accumulator += deltaTime;
+
+            // Update game logic at fixed time steps
+            long updateStart = System.nanoTime();
+            while (accumulator >= fixedTimeStep) {
+                world.step(fixedTimeStep);
+                accumulator -= fixedTimeStep;
+            }
+            double updateTime = (System.nanoTime() - updateStart) * NANOS_TO_SECONDS;
+
+            // Render with interpolation, before the tick rate may change the step length
+            publishSnapshot();
+            double alpha = accumulator / fixedTimeStep;
+            render(snapshots.getLatest(), alpha);
+
+            if (GameSettings.isAdaptiveTickRate()) {
+                adaptTickRate(frameDropped || updateTime > deltaTime * BEHIND_LOAD_FACTOR);
+            }
+        }
+    };
+
+    /**
+     * Runs one simulation step on the simulation thread and publishes its result.
+     */
+    private void simulationTick() {
+        if (resetRequested) {
+            // The restart, on this thread like every other snapshot
+            world.reset();
+            publishSnapshot();
+            resetRequested = false;
+            return;
+        }
+
+        // Pick up tick rate changes made at runtime
+        if (tickRate != GameSettings.getTickRate()) {
+            setTickRate(GameSettings.getTickRate());
+        }
+
+        long tickStart = System.nanoTime();
+        world.step(fixedTimeStep);
+        publishSnapshot();
+
+        if (GameSettings.isAdaptiveTickRate()) {
+            adaptTickRate((System.nanoTime() - tickStart) * NANOS_TO_SECONDS > fixedTimeStep * BEHIND_LOAD_FACTOR);
+        }
+    }
+
+    /**
+     * Switches the game loop to a new fixed simulation rate.
+     *
+     * @param tickRate The new tick rate.
+     */
+    private void setTickRate(TickRate tickRate) {
+        this.tickRate = tickRate;
+        this.fixedTimeStep = tickRate.getTimeStep();
+        this.framesBehind = 0;
+    }
+
+    /**
+     * Lowers the tick rate once the simulation has been falling behind for too many consecutive frames.
+     *
+     * @param frameBehind Whether the last frame could not keep up with real time.
+     */
+    private void adaptTickRate(boolean frameBehind) {
+        framesBehind = frameBehind ? framesBehind + 1 : 0;
+        if (framesBehind >= BEHIND_FRAMES_LIMIT && tickRate.lower() != tickRate) {
+            TickRate lowerTickRate = tickRate.lower();
+            System.out.println("Simulation falling behind, lowering tick rate to " + lowerTickRate.getHertz() + "Hz");
+            GameSettings.setTickRate(lowerTickRate);
+            setTickRate(lowerTickRate);
+        }
+    }
+
+    /**
+     * Turns optional work on or off to match the frame budget governor's current level.
+     */
+    private void applyGovernorLevel() {
+        renderer.setDebugBoundsEnabled(governor.isEnabled(FrameBudgetGovernor.OptionalWork.DEBUG_BOUNDS));
+        if (!governor.isEnabled(FrameBudgetGovernor.OptionalWork.FPS_LABEL)) {
+            fpsCounter.setText("FPS: --");
+        }
+        world.setOffscreenRotation(governor.isEnabled(FrameBudgetGovernor.OptionalWork.OFFSCREEN_ROTATION));
+        getSoundPool().setSoundEffectsEnabled(governor.isEnabled(FrameBudgetGovernor.OptionalWork.SOUND_EFFECTS));
+    }
+
+    private void updateFpsCounter(long now) {
+        frameCount++;
+
+        if (now - lastFpsUpdate >= NANOS_PER_SECOND) {
+            double fps = frameCount * (NANOS_PER_SECOND / (double)(now - lastFpsUpdate));
+            if (governor.isEnabled(FrameBudgetGovernor.OptionalWork.FPS_LABEL)) {
+                fpsCounter.setText(String.format("FPS: %.2f", fps));
+            }
+            frameCount = 0;
+            lastFpsUpdate = now;
+        }
+    }
+
+    /**
+     * Copies the current world state into a snapshot and hands it over to the renderer, and to the export file.
+     * Only called from the thread stepping the simulation.
+     */
+    private void publishSnapshot() {
+        WorldSnapshot snapshot = snapshots.getBackBuffer();
+        world.capture(snapshot);
+        if (exporter != null) {
+            exporter.export(snapshot, world.getClock().getTime());
+        }
+        snapshots.publish(fixedTimeStep);
+    }
+
+    /**
+     * Updates the scene from a world snapshot. Only runs on the JavaFX thread.
+     *
+     * @param snapshot The snapshot to show.
+     * @param alpha How far to blend the entities between the last two simulation steps.
+     */
+    private void render(WorldSnapshot snapshot, double alpha) {
+        renderer.render(snapshot, alpha);
+
+        if (snapshot.getScore() != displayedScore) {
+            displayedScore = snapshot.getScore();
+            scoreLabel.setText(String.format("Score: %07d", displayedScore));
+        }
+        if (snapshot.getLevel() != displayedLevel) {
+            displayedLevel = snapshot.getLevel();
+            levelLabel.setText("Level: " + displayedLevel); // Update shown level
+        }
+        if (snapshot.isGameOver() && !gameOverShown) {
+            showGameOver(snapshot);
+        }
+    }
+
+
+    /**
+     * Initializes the game window scene.
+     */
+    @FXML
+    public void initialize(Pane gamePane) {
+        this.session = new GameSession(getContext().getPlayerName(), getSoundPool());
+        this.world = new GameWorld(session);
+        this.hud = new GameHud(this.gamePane);
+        this.renderer = new WorldRenderer(this.gamePane, hud, session);
+
+        // Initialise player controls
+        PlayerControls playerControls = new PlayerControls(world.getPlayer(), session, this.gamePane, this.getSoundPool(), this);
+
+        setGameLabels();
+        setupButtons();
+
+        if (GameSettings.getExportFile() != null) {
+            try {
+                exporter = new WorldExporter(GameSettings.getExportFile(), WorldExporter.DEFAULT_CAPACITY);
+            } catch (IOException e) {
+                System.out.println("Could not export the game to " + GameSettings.getExportFile() + ": " + e.getMessage());
+            }
+        }
+
+        displayedScore = world.getPlayer().getScore();
+        displayedLevel = world.getLevelController().getLevel();
+        // The simulation thread isn't started yet, so the first snapshot is still published from here
+        publishSnapshot();
+        render(snapshots.getLatest(), 1);
+
+        gameLoop.start();
+        if (GameSettings.isSimulationThread()) {
+            simulationThread = new SimulationThread(this::simulationTick,
+                    () -> (long) (GameSettings.getTickRate().getTimeStep() * NANOS_PER_SECOND));
+            simulationThread.start();
+        }
+    }
+
+    /**
+     * Gets the game pane.
+     *
+     * @return The game pane.
+     */
+    public Pane getGamePane() {
+        return this.gamePane;
+    }
+
+    /**
+     * Sets up the game labels (level, score, pause, and game over).
+     */
+    private void setGameLabels() {
+        levelLabel = new Label("Level: " + world.getLevelController().getLevel());
+        levelLabel.getStyleClass().add("display-label");
+        levelLabel.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/CSS/labels.css")).toExternalForm());
+        levelLabel.setPrefWidth(150);
+        levelLabel.setPrefHeight(60);
+        levelLabel.setLayoutX(WINDOW_WIDTH/2 - levelLabel.getPrefWidth() / 2);
+
+        scoreLabel = new Label(String.format("Score: %07d", world.getPlayer().getScore()));
+        scoreLabel.getStyleClass().add("display-label");
+        scoreLabel.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/CSS/labels.css")).toExternalForm());
+        scoreLabel.setPrefWidth(240);
+        scoreLabel.setPrefHeight(60);
+        scoreLabel.setLayoutX(WINDOW_WIDTH - scoreLabel.getPrefWidth());
+
+        pauseLabel = new Label("Paused");
+        pauseLabel.getStyleClass().add("title-label");
+        pauseLabel.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/CSS/labels.css")).toExternalForm());
+        pauseLabel.setPrefWidth(300);
+        pauseLabel.setPrefHeight(60);
+        pauseLabel.setLayoutX(WINDOW_WIDTH/2 - pauseLabel.getPrefWidth() / 2);
+        pauseLabel.setLayoutY(200);
+
+        gameOverLabel = new Label("Game Over");
+        gameOverLabel.getStyleClass().add("title-label");
+        gameOverLabel.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/CSS/labels.css")).toExternalForm());
+        gameOverLabel.setPrefWidth(WINDOW_WIDTH/2);
+        gameOverLabel.setLayoutX(WINDOW_WIDTH/2 - gameOverLabel.getPrefWidth() / 2);
+        gameOverLabel.setLayoutY(200);
+
+        fpsCounter = new Label("FPS: --");
+        fpsCounter.getStyleClass().add("FPS-label");
+        fpsCounter.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/CSS/labels.css")).toExternalForm());
+        fpsCounter.setPrefWidth(120);
+        fpsCounter.setPrefHeight(30);
+        fpsCounter.setLayoutX(WINDOW_WIDTH - fpsCounter.getPrefWidth());
+        fpsCounter.setLayoutY(WINDOW_HEIGHT - fpsCounter.getPrefHeight());
+
+        gamePane.getChildren().addAll(levelLabel, scoreLabel, fpsCounter);
+    }
+
+    /**
+     * Sets up the back and restart buttons.
+     */
+    private void setupButtons() {
+        backButton = new Button("Menu");
+        setUpForGamePane(backButton);
+        backButton.setLayoutY(450 - backButton.getPrefHeight());
+        backButton.setOnAction(event -> {
+            try {
+                switchToMainMenu(event);
+            } catch (IOException | LineUnavailableException | UnsupportedAudioFileException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        restartButton = new Button("Restart");
+        setUpForGamePane(restartButton);
+        restartButton.setLayoutY(450 - restartButton.getPrefHeight() - backButton.getPrefHeight());
+        restartButton.setOnAction(event -> restartGame());
+    }
+
+    /**
+     * Sets up common properties for game buttons.
+     *
+     * @param button The button to set up.
+     */
+    private void setUpForGamePane(Button button) {
+        button.setDefaultButton(false);
+        button.setFocusTraversable(false);
+        button.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/CSS/buttons.css")).toExternalForm());
+        button.setPrefWidth(400);
+        button.setPrefHeight(50);
+        button.setLayoutX(WINDOW_WIDTH/2 - button.getPrefWidth() / 2);
+    }
+
+    /**
+     * Pauses the game automatically whenever the given stage loses focus or is minimized,
+     * and resumes it when the stage comes back.
+     *
+     * @param stage The stage showing the game.
+     */
+    public void attachWindowThrottle(Stage stage) {
+        windowThrottle = new WindowThrottle(stage, this::throttle, this::restoreFromThrottle);
+    }
+
+    /**
+     * Pauses a running game because the window lost focus or was minimized.
+     */
+    private void throttle() {
+        if (!session.isPaused() && !gameOverShown && gameLoop != null) {
+            pausedByThrottle = true;
+            pauseGame(false);
+        }
+    }
+
+    /**
+     * Resumes the game if it was paused only because the window lost focus or was minimized.
+     */
+    private void restoreFromThrottle() {
+        if (pausedByThrottle && gameLoop != null) {
+            resumeGame(false);
+        }
+    }
+
+    /**
+     * Pauses the game.
+     */
+    public void pauseGame() {
+        pauseGame(true);
+    }
+
+    /**
+     * Pauses the game, stopping the game loop and the simulation clock.
+     *
+     * @param playSound Whether to play the pause sound.
+     */
+    private void pauseGame(boolean playSound) {
+        session.setPaused(true);
+        if (playSound) {
+            getSoundPool().playPauseClip();
+        }
+        gamePane.getChildren().addAll(pauseLabel, backButton, restartButton);
+        this.gameLoop.stop();
+        if (simulationThread != null) {
+            simulationThread.pause();
+        }
+    }
+
+    /**
+     * Resumes the game.
+     */
+    public void resumeGame() {
+        resumeGame(true);
+    }
+
+    /**
+     * Resumes the game loop and the simulation clock where they stopped.
+     *
+     * @param playSound Whether to play the unpause sound.
+     */
+    private void resumeGame(boolean playSound) {
+        session.setPaused(false);
+        pausedByThrottle = false;
+        if (playSound) {
+            getSoundPool().playUnpauseClip();
+        }
+        gamePane.getChildren().removeAll(pauseLabel, backButton, restartButton);
+        this.gameLoop.start();
+        if (simulationThread != null) {
+            simulationThread.resume();
+        }
+    }
+
+
+    /**
+     * Starts the game over in the same scene: the world, its pools, the HUD and the labels are reset in place
+     * instead of being loaded and built again.
+     */
+    public void restartGame() {
+        // Nothing may step the world while it is reset
+        gameLoop.stop();
+        if (simulationThread != null) {
+            // The simulation thread resets the world and publishes it once resumed, until then the snapshots from
+            // before the restart, like the game over, are not shown
+            simulationThread.pauseAndWait();
+            restartSequence = snapshots.getLatest().getSequence();
+            resetRequested = true;
+        } else {
+            world.reset();
+        }
+
+        gameOverShown = false;
+        pausedByThrottle = false;
+        gamePane.getChildren().removeAll(pauseLabel, gameOverLabel, backButton, restartButton);
+        hud.reset();
+        getSoundPool().rewindBackgroundMusic();
+        if (simulationThread == null) {
+            publishSnapshot();
+            render(snapshots.getLatest(), 1);
+        }
+
+        session.setPaused(false);
+        gameLoop.start();
+        if (simulationThread != null) {
+            simulationThread.resume();
+        }
+    }
+
+    /**
+     * Saves the score and shows the game over screen once the simulation has ended the game.
+     *
+     * @param snapshot The snapshot in which the game ended.
+     */
+    private void showGameOver(WorldSnapshot snapshot) {
+        gameOverShown = true;
+        // Save player score
+        scoreManager.addScore(session.getPlayerName(), snapshot.getScore(), String.valueOf(snapshot.getLevel()));
+
+        // Sometimes all three nodes are already in the pane when this is called?
+        if (!gamePane.getChildren().contains(gameOverLabel)) {
+            gamePane.getChildren().add(gameOverLabel);
+        }
+        if(!gamePane.getChildren().contains(backButton)) {
+            gamePane.getChildren().add(backButton);
+        }
+        if (!gamePane.getChildren().contains(restartButton)) {
+            gamePane.getChildren().add(restartButton);
+        }
+        gameLoop.stop();
+        if (simulationThread != null) {
+            simulationThread.pause();
+        }
+    }
+
+    /**
+     * Clean resources for game closure.
+     */
+    public void cleanup() {
+        // Stop watching the window
+        if (windowThrottle != null) {
+            windowThrottle.dispose();
+            windowThrottle = null;
+        }
+
+        // Stop the simulation before releasing what it works on
+        if (simulationThread != null) {
+            simulationThread.shutdown();
+            simulationThread = null;
+        }
+
+        // Stop the game loop
+        if (gameLoop != null) {
+            gameLoop.stop();
+            gameLoop = null;
+        }
+
+        // Nothing publishes snapshots any more, unmap the export file
+        if (exporter != null) {
+            exporter.cleanup();
+            exporter = null;
+        }
+
+        // Remove event handlers
+        if (gamePane != null && gamePane.getScene() != null) {
+            gamePane.getScene().setOnKeyPressed(null);
+            gamePane.getScene().setOnKeyReleased(null);
+        }
+
+        // Clear all game objects
+        if (renderer != null) {
+            renderer.cleanup();
+            renderer = null;
+        }
+        if (hud != null) {
+            hud.cleanup();
+            hud = null;
+        }
+        if (gamePane != null) {
+            gamePane.getChildren().clear();
+        }
+
+        // Clean up the simulation
+        if (world != null) {
+            world.cleanup();
+            world = null;
+        }
+
+        // Don't carry shed sound effects over to the next game
+        if (getSoundPool() != null) {
+            getSoundPool().setSoundEffectsEnabled(true);
+        }
+
+        System.out.println("GameController cleanup complete");
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.asteroidsrevamped;
+
+import javafx.scene.control.ProgressBar;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Player lives and ammunition shown over the game. Only used on the JavaFX Application Thread.
+ *
+ * @author Jose Silva
+ */
+public class GameHud {
+
+    private final Pane gamePane;
+
+    /**
+     * Image views representing player lives.
+     */
+    private final ImageView[] playerLives = new ImageView[3];
+
+    /**
+     * Number of life icons currently shown on the game pane.
+     */
+    private int displayedLives;
+
+    // Visual representation of ammunition
+    private final ProgressBar ammunition = new ProgressBar();
+
+    /**
+     * Creates the heads-up display and adds it to the game pane.
+     *
+     * @param gamePane The pane containing the game elements.
+     */
+    public GameHud(Pane gamePane) {
+        this.gamePane = gamePane;
+
+        // Progress bar (ammunition)
+        ammunition.setProgress(1);
+        ammunition.setRotate(-90);
+        ammunition.setTranslateY(GameController.WINDOW_HEIGHT - 100);
+        ammunition.getStyleClass().add("ammunition");
+        ammunition.getStylesheets().add(Objects.requireNonNull(getClass().getResource("/CSS/ammunition.css")).toExternalForm());
+        gamePane.getChildren().add(ammunition);
+
+        setLives();
+    }
+
+    /**
+     * Creates and displays the player's lives on the game pane.
+     */
+    private void setLives() {
+        for (int i = 0; i < playerLives.length; i++) {
+            Image lifeIconImage = new Image(Objects.requireNonNull(GameHud.class.getResourceAsStream("/images/hearts.png")));
+            ImageView lifeIcon = new ImageView(lifeIconImage);
+            lifeIcon.setFitHeight(30);
+            lifeIcon.setFitWidth(30);
+            lifeIcon.setX(10 + i * 30); // Position lives in the top-left corner
+            lifeIcon.setY(10);
+            playerLives[i] = lifeIcon;
+            gamePane.getChildren().add(lifeIcon);
+        }
+        displayedLives = playerLives.length;
+    }
+
+    /**
+     * Shows as many life icons as the player has lives left.
+     *
+     * @param lives The number of lives to show.
+     */
+    public void renderLives(int lives) {
+        while (displayedLives > Math.max(lives, 0)) {
+            displayedLives--;
+            gamePane.getChildren().remove(playerLives[displayedLives]);
+        }
+    }
+
+    /**
+     * Shows the share of lasers ready to be fired on the ammunition bar.
+     *
+     * @param progress The share of lasers ready to be fired, from 0 to 1.
+     */
+    public void renderAmmunition(double progress) {
+        if (ammunition.getProgress() != progress) {
+            ammunition.setProgress(progress);
+        }
+    }
+
+    /**
+     * Removes the heads-up display from the game pane.
+     */
+    /**
+     * Shows every life again and a full ammunition bar, reusing the nodes already built.
+     */
+    public void reset() {
+        while (displayedLives < playerLives.length) {
+            gamePane.getChildren().add(playerLives[displayedLives]);
+            displayedLives++;
+        }
+        renderAmmunition(1);
+    }
+
+    public void cleanup() {
+        gamePane.getChildren().remove(ammunition);
+        gamePane.getChildren().removeAll(playerLives);
+        Arrays.fill(playerLives, null);
+    }
+}
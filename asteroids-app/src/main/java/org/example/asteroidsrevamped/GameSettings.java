@@ -0,0 +1,180 @@
+package org.example.asteroidsrevamped;
+
+import org.example.asteroidsrevamped.core.TickRate;
+
+import java.nio.file.Path;
+
+/**
+ * Holds the game settings, read from the command line ({@code --tick-rate=60}) or from the matching system properties
+ * ({@code -Dasteroids.tickRate=60}), some of which can be changed while the game is running.
+ *
+ * @author Jose Silva
+ */
+public final class GameSettings {
+
+    private static final String TICK_RATE_PROPERTY = "asteroids.tickRate";
+    private static final String ADAPTIVE_TICK_RATE_PROPERTY = "asteroids.adaptiveTickRate";
+    private static final String FRAME_RATE_PROPERTY = "asteroids.frameRate";
+    private static final String SIMULATION_THREAD_PROPERTY = "asteroids.simulationThread";
+    private static final String EXPORT_FILE_PROPERTY = "asteroids.exportFile";
+    private static final String TICK_RATE_ARG = "--tick-rate=";
+    private static final String ADAPTIVE_TICK_RATE_ARG = "--adaptive-tick-rate";
+    private static final String FRAME_RATE_ARG = "--frame-rate=";
+    private static final String SIMULATION_THREAD_ARG = "--simulation-thread";
+    private static final String EXPORT_FILE_ARG = "--export-file=";
+    private static final int DEFAULT_FRAME_RATE = 240;
+
+    /**
+     * Fixed simulation rate used by the game loop.
+     */
+    private static volatile TickRate tickRate = TickRate.HZ_240;
+
+    /**
+     * Whether the game loop may lower the tick rate when it keeps falling behind.
+     */
+    private static volatile boolean adaptiveTickRate = false;
+
+    /**
+     * Maximum number of frames rendered per second. Independent of the tick rate,
+     * since rendering blends entities between simulation steps.
+     */
+    private static int frameRate = DEFAULT_FRAME_RATE;
+
+    /**
+     * Whether the simulation runs on its own thread instead of inside the JavaFX animation timer.
+     */
+    private static volatile boolean simulationThread = false;
+
+    /**
+     * File the world state is exported to for other processes to read, or null to not export it.
+     */
+    private static volatile Path exportFile;
+
+    private GameSettings() {
+    }
+
+    /**
+     * Loads the settings from system properties, then from the command line arguments.
+     *
+     * @param args The command line arguments passed to the application.
+     */
+    public static void load(String[] args) {
+        String tickRateProperty = System.getProperty(TICK_RATE_PROPERTY);
+        if (tickRateProperty != null) {
+            tickRate = TickRate.fromHertz(Integer.parseInt(tickRateProperty.trim()));
+        }
+        adaptiveTickRate = Boolean.getBoolean(ADAPTIVE_TICK_RATE_PROPERTY);
+        frameRate = Integer.getInteger(FRAME_RATE_PROPERTY, DEFAULT_FRAME_RATE);
+        simulationThread = Boolean.getBoolean(SIMULATION_THREAD_PROPERTY);
+        String exportFileProperty = System.getProperty(EXPORT_FILE_PROPERTY);
+        if (exportFileProperty != null) {
+            exportFile = Path.of(exportFileProperty.trim());
+        }
+
+        for (String arg : args) {
+            if (arg.startsWith(TICK_RATE_ARG)) {
+                tickRate = TickRate.fromHertz(Integer.parseInt(arg.substring(TICK_RATE_ARG.length()).trim()));
+            } else if (arg.equals(ADAPTIVE_TICK_RATE_ARG)) {
+                adaptiveTickRate = true;
+            } else if (arg.startsWith(FRAME_RATE_ARG)) {
+                frameRate = Integer.parseInt(arg.substring(FRAME_RATE_ARG.length()).trim());
+            } else if (arg.equals(SIMULATION_THREAD_ARG)) {
+                simulationThread = true;
+            } else if (arg.startsWith(EXPORT_FILE_ARG)) {
+                exportFile = Path.of(arg.substring(EXPORT_FILE_ARG.length()).trim());
+            }
+        }
+    }
+
+    /**
+     * Sets the JavaFX toolkit properties derived from these settings.
+     * The toolkit only reads them once, so this must be called before the application is launched.
+     */
+    public static void applyToolkitProperties() {
+        // Enable VSync optimization for fixed window size
+        System.setProperty("javafx.animation.fullspeed", "false");
+        System.setProperty("javafx.animation.pulse", String.valueOf(frameRate));
+        System.setProperty("prism.vsync", "true");
+    }
+
+    /**
+     * Gets the fixed simulation rate.
+     *
+     * @return The current tick rate.
+     */
+    public static TickRate getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Changes the fixed simulation rate. Takes effect on the next frame of a running game.
+     *
+     * @param tickRate The new tick rate.
+     */
+    public static void setTickRate(TickRate tickRate) {
+        GameSettings.tickRate = tickRate;
+    }
+
+    /**
+     * Gets the maximum number of frames rendered per second.
+     *
+     * @return The frame rate in hertz.
+     */
+    public static int getFrameRate() {
+        return frameRate;
+    }
+
+    /**
+     * Checks whether the adaptive tick rate is enabled.
+     *
+     * @return True if the game loop may lower the tick rate under load.
+     */
+    public static boolean isAdaptiveTickRate() {
+        return adaptiveTickRate;
+    }
+
+    /**
+     * Enables or disables the adaptive tick rate.
+     *
+     * @param adaptiveTickRate True to let the game loop lower the tick rate under load.
+     */
+    public static void setAdaptiveTickRate(boolean adaptiveTickRate) {
+        GameSettings.adaptiveTickRate = adaptiveTickRate;
+    }
+
+    /**
+     * Checks whether the simulation runs on its own thread.
+     *
+     * @return True if the simulation runs on a dedicated thread.
+     */
+    public static boolean isSimulationThread() {
+        return simulationThread;
+    }
+
+    /**
+     * Chooses where the simulation runs. Takes effect when the next game starts.
+     *
+     * @param simulationThread True to run the simulation on a dedicated thread.
+     */
+    public static void setSimulationThread(boolean simulationThread) {
+        GameSettings.simulationThread = simulationThread;
+    }
+
+    /**
+     * Gets the file the world state is exported to.
+     *
+     * @return The export file, or null if the game isn't exported.
+     */
+    public static Path getExportFile() {
+        return exportFile;
+    }
+
+    /**
+     * Chooses where the world state is exported. Takes effect when the next game starts.
+     *
+     * @param exportFile The export file, or null to stop exporting.
+     */
+    public static void setExportFile(Path exportFile) {
+        GameSettings.exportFile = exportFile;
+    }
+}
@@ -7,6 +7,8 @@ import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.UnsupportedAudioFileException;
 import java.io.IOException;
 import java.util.Objects;
 
@@ -14,8 +16,16 @@ public class Main extends Application {
 
     @Override
     public void start(Stage stage) throws IOException {
+        // State shared by every scene of the window
+        AppContext context;
+        try {
+            context = new AppContext(new SoundPool());
+        } catch (UnsupportedAudioFileException | LineUnavailableException e) {
+            throw new RuntimeException(e);
+        }
+
         // Set up root node
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("MainMenu.fxml"));
+        FXMLLoader loader = context.createLoader("MainMenu.fxml");
         Parent root = loader.load();
         // Setup scene
         Scene scene = new Scene(root);
@@ -31,6 +41,10 @@ public class Main extends Application {
         // Release resources on shutdown
         Runtime.getRuntime().addShutdownHook(new Thread(controller::terminate));
 
+        // Don't keep the music playing while the window is in the background
+        SoundPool soundPool = controller.getSoundPool();
+        new WindowThrottle(stage, soundPool::pauseBackgroundMusic, soundPool::resumeBackgroundMusic);
+
         // Set stage
         stage.setTitle("Asteroids Revamped!");
         stage.setScene(scene);
@@ -41,6 +55,9 @@ public class Main extends Application {
 
     public static void main(String[] args) {
         System.setProperty("javafx.runtime.preview", "true");
+        // Toolkit properties are only read at startup, so they must be set before launching
+        GameSettings.load(args);
+        GameSettings.applyToolkitProperties();
         Application.launch(Main.class, args);
     }
 }
@@ -20,7 +20,6 @@ public class MainMenuController extends SceneController {
     private TextField playerNameField;
     @FXML
     private Label playerNameDisplay;
-    private static boolean playerHasEnteredName = false;
 
     /**
      * Initializes the main menu scene.
@@ -30,10 +29,10 @@ public class MainMenuController extends SceneController {
      */
     @FXML
     public void initialize() {
-        if (!playerHasEnteredName) {
+        if (!getContext().hasPlayerEnteredName()) {
             playerNameDisplay.setText("Please enter your name");
         } else {
-            playerNameDisplay.setText(Player.name);
+            playerNameDisplay.setText(getContext().getPlayerName());
         }
        if (playerNameField != null) {
            // Add a listener to limit the number of characters
@@ -46,10 +45,9 @@ public class MainMenuController extends SceneController {
            playerNameField.setOnKeyPressed(event -> {
                if (event.getCode() == KeyCode.ENTER) {
                    playerNameDisplay.setText(playerNameField.getText());
-                   Player.name = playerNameField.getText();
+                   getContext().setPlayerName(playerNameField.getText());
                    playerNameField.setText("");
                    playerNameDisplay.requestFocus();
-                   playerHasEnteredName = true;
                }
            });
        }
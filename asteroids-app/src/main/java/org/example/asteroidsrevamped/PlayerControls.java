@@ -2,9 +2,8 @@ package org.example.asteroidsrevamped;
 
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.Pane;
-
-import javax.sound.sampled.LineUnavailableException;
-import java.io.IOException;
+import org.example.asteroidsrevamped.core.GameSession;
+import org.example.asteroidsrevamped.core.Player;
 
 /**
  * This class handles player input for controlling the spaceship and game state.
@@ -19,11 +18,12 @@ public class PlayerControls {
      * handling player input.
      *
      * @param player The player object representing the player character.
+     * @param session The game being played, holding the pause and debug flags.
      * @param gamePane The pane containing the game elements.
      * @param soundPool The sound pool for playing sound effects.
      * @param gameController The game controller for handling game logic.
      */
-    public PlayerControls(Player player, Pane gamePane, SoundPool soundPool, GameController gameController) {
+    public PlayerControls(Player player, GameSession session, Pane gamePane, SoundPool soundPool, GameController gameController) {
         gamePane.getScene().setOnKeyPressed(event -> {
             if (event.getCode() == KeyCode.LEFT || event.getCode() == KeyCode.A) {
                 player.getSpaceship().rotateLeft();
@@ -37,23 +37,15 @@ public class PlayerControls {
             if (event.getCode() == KeyCode.DOWN || event.getCode() == KeyCode.S) {
                 player.getSpaceship().moveBack();
             }
-            if (event.getCode() == KeyCode.SPACE) {
-                try {
-                    player.shoot(soundPool);
-                } catch (LineUnavailableException | IOException e) {
-                    throw new RuntimeException(e);
-                }
+            if (event.getCode() == KeyCode.SPACE && !session.isPaused()) {
+                player.requestShot();
             }
             if (event.getCode() == KeyCode.B) {
-                if(!Entity.visibleBounds) {
-                    GameController.makeBoundsVisible();
-                } else {
-                    GameController.makeBoundsInvisible();
-                }
+                session.setBoundsVisible(!session.isBoundsVisible());
             }
             // Pause the game
             if (event.getCode() == KeyCode.ENTER) {
-                if (!GameController.gameIsPaused) {
+                if (!session.isPaused()) {
                     gameController.pauseGame();
                 } else {
                     gameController.resumeGame();
@@ -17,7 +17,7 @@ import java.io.IOException;
 
 /**
  * This class is the main controller for the application. It handles switching between different scenes
- * (MainMenu, GameWindow, Scores) and manages the game wide sound pool.
+ * (MainMenu, GameWindow, Scores) and passes the window's {@link AppContext}, holding the sound pool, from scene to scene.
  */
 public class SceneController {
 
@@ -33,18 +33,8 @@ public class SceneController {
 
     ScoreManager scoreManager = new ScoreManager();
 
-    // Game wide accessible sound pool
-    private SoundPool soundPool;
-
-    private static boolean restartBackgroundMusic;
-
-    {
-        try {
-            soundPool = SoundPool.getInstance();
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    // Window wide state, including the sound pool, handed over from scene to scene
+    private AppContext context;
 
     /**
      * Switches the scene to the MainMenu.fxml scene.
@@ -62,16 +52,16 @@ public class SceneController {
             currentGameController = null;
         }
 
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("MainMenu.fxml"));
+        FXMLLoader loader = context.createLoader("MainMenu.fxml");
         root = loader.load();
 
         currentStartController = loader.getController();
 
-        if (restartBackgroundMusic) {
+        if (context.isRestartBackgroundMusic()) {
             this.getSoundPool().playBackgroundMusicClip();
         }
         // reset flag to restart background music
-        restartBackgroundMusic = false;
+        context.setRestartBackgroundMusic(false);
 
         stage = (Stage)((Node)event.getSource()).getScene().getWindow();
         if (currentScene != null) {
@@ -97,7 +87,7 @@ public class SceneController {
     @FXML
     public void switchToGameWindow(ActionEvent event) throws IOException, UnsupportedAudioFileException, LineUnavailableException {
         // Only restart background music when playing a new game or visiting main menu after having played.
-        restartBackgroundMusic = true;
+        context.setRestartBackgroundMusic(true);
         System.out.println(true);
         // Cleanup previous scene
         if (currentStartController != null) {
@@ -108,7 +98,7 @@ public class SceneController {
             currentGameController = null;
         }
 
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("GameWindow.fxml"));
+        FXMLLoader loader = context.createLoader("GameWindow.fxml");
         root = loader.load();
 
         // Restart background music
@@ -124,6 +114,7 @@ public class SceneController {
         currentGameController = loader.getController();
         Pane gamePane = currentGameController.getGamePane();
         currentGameController.initialize(gamePane);
+        currentGameController.attachWindowThrottle(stage);
 
         stage.setScene(currentScene);
         stage.setResizable(false);
@@ -141,7 +132,7 @@ public class SceneController {
         if (currentStartController != null) {
             currentStartController = null;
         }
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("Scores.fxml"));
+        FXMLLoader loader = context.createLoader("Scores.fxml");
         root = loader.load();
 
         if (currentScene != null) {
@@ -166,7 +157,7 @@ public class SceneController {
         if (currentStartController != null) {
             currentStartController = null;
         }
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("PlayerControls.fxml"));
+        FXMLLoader loader = context.createLoader("PlayerControls.fxml");
         Parent root = loader.load();
 
         if (currentScene != null) {
@@ -184,10 +175,23 @@ public class SceneController {
     /**
      * Returns the game's sound pool.
      *
-     * @return the SoundPool instance
+     * @return the SoundPool instance, or null once the application was cleaned up
      */
     public SoundPool getSoundPool() {
-        return soundPool;
+        return context != null ? context.getSoundPool() : null;
+    }
+
+    /**
+     * Hands the window's shared state to this controller. Called by the loader before the scene is initialized.
+     *
+     * @param context The state shared by the scenes of the window.
+     */
+    void setContext(AppContext context) {
+        this.context = context;
+    }
+
+    public AppContext getContext() {
+        return context;
     }
 
     public Stage getStage() {
@@ -207,9 +211,8 @@ public class SceneController {
                     }
 
                     // Clear sound resources
-                    if (soundPool != null) {
-                        soundPool.cleanup();
-                        soundPool = null;
+                    if (getSoundPool() != null) {
+                        getSoundPool().cleanup();
                     }
 
                     // Handle JavaFX operations on the JavaFX Application Thread
@@ -0,0 +1,372 @@
+package org.example.asteroidsrevamped;
+
+import javafx.application.Platform;
+import org.example.asteroidsrevamped.core.GameEvents;
+import org.example.asteroidsrevamped.core.ObjectPool;
+
+import javax.sound.sampled.*;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Objects;
+
+/**
+ * This class manages the game's sound effects and background music, shared by the scenes of the game window through its
+ * {@link AppContext}. The music is only touched from the JavaFX thread, the sound effects from either thread.
+ *
+ * @author Jose Silva
+ */
+public class SoundPool implements GameEvents {
+
+    // Background music. Accessible throughout the application, from the JavaFX thread only
+    private final URL backgroundMusicUrl;
+    private Clip backgroundMusicClip;
+    private boolean backgroundMusicPaused;
+
+    private static final double NANOS_TO_SECONDS = 1.0 / 1_000_000_000.0;
+
+    // Asteroid colliding with spaceship
+    private Voices collisionClipPool;
+
+    // Pool of sounds for asteroids being destroyed
+    private Voices destructionClipPool;
+
+    // Leveling up.
+    private Clip levelUpClip;
+
+    // Pool of laser sounds
+    private Voices laserSoundPool;
+
+    // Pause sounds
+    private Clip pauseClip;
+    private Clip unpauseClip;
+
+    // Game over sound
+    private Clip gameOverClip;
+
+    // Cleared to skip gameplay sound effects when frames run over budget
+    private volatile boolean soundEffectsEnabled = true;
+
+    /**
+     * Loads every sound and initializes the sound pools.
+     *
+     * @throws UnsupportedAudioFileException if the audio file format is unsupported
+     * @throws IOException                   if an I/O error occurs during file reading
+     * @throws LineUnavailableException      if a line cannot be opened due to resource restrictions
+     */
+    public SoundPool() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+        // Background music
+        backgroundMusicUrl = SoundPool.class.getResource("/sounds/background-music.wav");
+
+        // Initialize other sound pools but DON'T start background music automatically
+        initializeSoundPools();
+    }
+
+    /**
+     * Initializes all sound pools and individual sound clips.
+     *
+     * @throws UnsupportedAudioFileException if the audio file format is unsupported
+     * @throws IOException                   if an I/O error occurs during file reading
+     * @throws LineUnavailableException      if a line cannot be opened due to resource restrictions
+     */
+    private void initializeSoundPools() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+        // Initialize collision sound pool
+        collisionClipPool = new Voices("Collision sound", "/sounds/collision.wav", 3);
+
+        // Initialize destruction sound pool
+        destructionClipPool = new Voices("Destruction sound", "/sounds/asteroid-destruction.wav", 3);
+
+        // Initialize level-up sound
+        URL levelUpClipPath = SoundPool.class.getResource("/sounds/level-up.wav");
+        levelUpClip = createClip(Objects.requireNonNull(levelUpClipPath));
+        adjustVolume(levelUpClip, -10.0f);
+
+        // Initialize laser sound pool
+        laserSoundPool = new Voices("Laser sound", "/sounds/laser-sound.wav", 5);
+
+        // Initialize pause sound
+        pauseClip = createClip(Objects.requireNonNull(SoundPool.class.getResource("/sounds/pause.wav")));
+
+        // Initialize unpause sound
+        unpauseClip = createClip(Objects.requireNonNull(SoundPool.class.getResource("/sounds/unpause.wav")));
+
+        // Initialize game-over sound
+        gameOverClip = createClip(Objects.requireNonNull(SoundPool.class.getResource("/sounds/game-over.wav")));
+    }
+
+    /**
+     * Plays the background music from the start, rewinding the clip already open instead of decoding it again.
+     */
+    public void rewindBackgroundMusic() {
+        if (backgroundMusicClip == null || !backgroundMusicClip.isOpen()) {
+            playBackgroundMusicClip();
+            return;
+        }
+        backgroundMusicClip.stop();
+        backgroundMusicClip.setFramePosition(0);
+        backgroundMusicClip.loop(Clip.LOOP_CONTINUOUSLY);
+        backgroundMusicPaused = false;
+    }
+
+    /**
+     * Plays the background music on a continuous loop.
+     */
+    public void playBackgroundMusicClip() {
+        try {
+            stopBackgroundMusic();
+
+            AudioInputStream backgroundMusicInputStream = AudioSystem.getAudioInputStream(backgroundMusicUrl);
+            backgroundMusicClip = AudioSystem.getClip();
+            backgroundMusicClip.open(backgroundMusicInputStream);
+            backgroundMusicClip.loop(Clip.LOOP_CONTINUOUSLY);
+            FloatControl volume = (FloatControl) backgroundMusicClip.getControl(FloatControl.Type.MASTER_GAIN);
+            volume.setValue(-10.0f);
+
+        } catch (Exception e) {
+            System.err.println("Failed to start background music: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Plays the next destruction sound from the pool.
+     */
+    public void playDestructionClip() {
+        if (!soundEffectsEnabled) {
+            return;
+        }
+        destructionClipPool.play();
+    }
+
+    /**
+     * Plays the level-up sound effect.
+     */
+    public void playLevelUpClip() {
+        if (!soundEffectsEnabled) {
+            return;
+        }
+        playClip(levelUpClip);
+    }
+
+    /**
+     * Plays the next collision sound from the pool.
+     */
+    public void playCollisionClip() {
+        if (!soundEffectsEnabled) {
+            return;
+        }
+        collisionClipPool.play();
+    }
+
+    /**
+     * Plays the next laser sound from the pool.
+     */
+    public void playLaserSound() {
+        if (!soundEffectsEnabled) {
+            return;
+        }
+        laserSoundPool.play();
+    }
+
+    /**
+     * Plays the pause sound effect.
+     */
+    public void playPauseClip() {
+        playClip(pauseClip);
+    }
+
+    /**
+     * Plays the unpause sound effect.
+     */
+    public void playUnpauseClip() {
+        playClip(unpauseClip);
+    }
+
+    /**
+     * Plays the game-over sound effect.
+     */
+    public void playGameOverClip() {
+        playClip(gameOverClip);
+    }
+
+    /**
+     * Enables or disables the gameplay sound effects (lasers, collisions, destruction and level up).
+     * Menu, pause and game over sounds are always played.
+     *
+     * @param soundEffectsEnabled False to skip gameplay sound effects.
+     */
+    public void setSoundEffectsEnabled(boolean soundEffectsEnabled) {
+        this.soundEffectsEnabled = soundEffectsEnabled;
+    }
+
+    /**
+     * Pauses the background music, keeping its position so that it can be resumed.
+     */
+    public void pauseBackgroundMusic() {
+        if (backgroundMusicClip != null && backgroundMusicClip.isRunning()) {
+            backgroundMusicClip.stop();
+            backgroundMusicPaused = true;
+        }
+    }
+
+    /**
+     * Resumes the background music from where it was paused.
+     */
+    public void resumeBackgroundMusic() {
+        if (backgroundMusicClip != null && backgroundMusicPaused) {
+            backgroundMusicClip.loop(Clip.LOOP_CONTINUOUSLY);
+        }
+        backgroundMusicPaused = false;
+    }
+
+    /**
+     * Stops the background music if it is playing.
+     */
+    public void stopBackgroundMusic() {
+        if (backgroundMusicClip != null) {
+            backgroundMusicClip.stop();
+            backgroundMusicClip.close();
+            backgroundMusicClip = null;
+        }
+        backgroundMusicPaused = false;
+    }
+
+    @Override
+    public void laserFired() {
+        playLaserSound();
+    }
+
+    @Override
+    public void asteroidDestroyed() {
+        playDestructionClip();
+    }
+
+    @Override
+    public void shipHit() {
+        playCollisionClip();
+    }
+
+    @Override
+    public void levelUp() {
+        playLevelUpClip();
+    }
+
+    @Override
+    public void gameOver() {
+        if (Platform.isFxApplicationThread()) {
+            stopBackgroundMusic();
+        } else {
+            Platform.runLater(this::stopBackgroundMusic);
+        }
+        playGameOverClip();
+    }
+
+    /**
+     * Cleans up resources by stopping and closing all sound clips.
+     */
+    public void cleanup() {
+
+        collisionClipPool.close();
+        destructionClipPool.close();
+        laserSoundPool.close();
+
+        if (levelUpClip != null) {
+            levelUpClip.stop();
+            levelUpClip.close();
+        }
+
+        stopBackgroundMusic();
+        System.out.println("SoundPool cleanup complete");
+    }
+
+    // Helper Methods
+
+    /**
+     * Creates and returns a clip for the given file.
+     */
+    private static Clip createClip(URL url) throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+        AudioInputStream inputStream = AudioSystem.getAudioInputStream(Objects.requireNonNull(url));
+        Clip clip = AudioSystem.getClip();
+        clip.open(inputStream);
+        return clip;
+    }
+
+    /**
+     * Adjusts the volume of a clip.
+     */
+    private void adjustVolume(Clip clip, float value) {
+        FloatControl volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+        volumeControl.setValue(value);
+    }
+
+    /**
+     * Plays a single clip.
+     */
+    private static void playClip(Clip clip) {
+        if (clip != null) {
+            clip.setFramePosition(0);
+            clip.start();
+        }
+    }
+
+    /**
+     * Copies of one sound effect, so that it can overlap with itself. A voice is in use while its clip plays.
+     * Voices are released from the audio thread when their clip stops, so the pool is only touched while locked.
+     */
+    private static final class Voices {
+
+        private final ObjectPool<Clip> pool;
+        // Voice cut short when every voice is already playing
+        private int nextStolenVoice;
+
+        private Voices(String name, String path, int voices) throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+            URL url = Objects.requireNonNull(SoundPool.class.getResource(path));
+            Clip[] clips = new Clip[voices];
+            for (int i = 0; i < voices; i++) {
+                clips[i] = createClip(url);
+            }
+            int[] nextClip = {0};
+            pool = new ObjectPool<>(name, () -> clips[nextClip[0]++], voices, voices, ObjectPool.GrowthPolicy.FIXED,
+                    () -> System.nanoTime() * NANOS_TO_SECONDS);
+            for (Clip clip : clips) {
+                clip.addLineListener(event -> {
+                    if (event.getType() == LineEvent.Type.STOP) {
+                        synchronized (pool) {
+                            // A stolen voice may stop twice, or stop after it was released already
+                            if (pool.isInUse(clip)) {
+                                pool.release(clip);
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        /**
+         * Plays the sound on a free voice, or restarts a playing one if every voice is busy.
+         */
+        private void play() {
+            Clip clip;
+            synchronized (pool) {
+                clip = pool.acquire();
+                if (clip == null) {
+                    clip = pool.getCreated(nextStolenVoice);
+                    nextStolenVoice = (nextStolenVoice + 1) % pool.getSize();
+                }
+            }
+            playClip(clip);
+        }
+
+        /**
+         * Stops and closes every voice, printing how the voices were used.
+         */
+        private void close() {
+            synchronized (pool) {
+                System.out.println(pool);
+            }
+            for (int i = 0; i < pool.getSize(); i++) {
+                Clip clip = pool.getCreated(i);
+                clip.stop();
+                clip.close();
+            }
+        }
+    }
+}
@@ -4,12 +4,13 @@ import javafx.scene.shape.Ellipse;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Shape;
+import org.example.asteroidsrevamped.core.SpaceshipHull;
 
 /**
  * Represents the graphical shape of a spaceship by combining various geometric components.
 
  * This class encapsulates the creation of the spaceship shape and provides a method to
- * retrieve the composite shape.
+ * retrieve the composite shape, drawn from {@link SpaceshipHull} when debugging.
  *
  * @author Jose Silva
  */
@@ -26,29 +27,29 @@ import javafx.scene.shape.Shape;
      */
     SpaceshipShape(){
         // Create the left wing of the spaceship.
-        Polygon leftWing = new Polygon();
-        leftWing.getPoints().addAll(7.0, 2.0, 7.0, 20.0, 40.0, 20.0);
+        Polygon leftWing = new Polygon(SpaceshipHull.getLeftWing());
 
         // Create the rectangular body of the spaceship.
+        double[] bodyBounds = SpaceshipHull.getBody();
         Rectangle body = new Rectangle();
-        body.setX(0.0);
-        body.setY(20.0);
-        body.setWidth(43);
-        body.setHeight(20);
+        body.setX(bodyBounds[0]);
+        body.setY(bodyBounds[1]);
+        body.setWidth(bodyBounds[2]);
+        body.setHeight(bodyBounds[3]);
 
         // Combine the left wing and the body into a single shape.
         Shape shape1 = Shape.union(leftWing, body);
 
         // Create the right wing of the spaceship.
-        Polygon rightWing = new Polygon();
-        rightWing.getPoints().addAll(7.0, 40.0, 7.0, 58.0, 40.0, 40.0);
+        Polygon rightWing = new Polygon(SpaceshipHull.getRightWing());
 
         // Create the elliptical nose of the spaceship.
+        double[] noseBounds = SpaceshipHull.getNose();
         Ellipse nose = new Ellipse();
-        nose.setCenterX(43);
-        nose.setCenterY(30.0);
-        nose.setRadiusX(17);
-        nose.setRadiusY(10);
+        nose.setCenterX(noseBounds[0]);
+        nose.setCenterY(noseBounds[1]);
+        nose.setRadiusX(noseBounds[2]);
+        nose.setRadiusY(noseBounds[3]);
 
         // Combine the first composite shape with the nose.
         Shape shape2 = Shape.union(shape1, nose);
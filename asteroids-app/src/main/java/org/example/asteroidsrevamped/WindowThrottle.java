@@ -0,0 +1,63 @@
+package org.example.asteroidsrevamped;
+
+import javafx.beans.value.ChangeListener;
+import javafx.stage.Stage;
+
+/**
+ * Watches a stage and reports when it stops being worth running at full speed (it lost focus or was minimized),
+ * and when it comes back.
+ *
+ * @author Jose Silva
+ */
+public class WindowThrottle {
+
+    private final Stage stage;
+    private final Runnable onThrottle;
+    private final Runnable onRestore;
+    private final ChangeListener<Boolean> listener = (observable, oldValue, newValue) -> update();
+
+    private boolean throttled;
+
+    /**
+     * Starts watching a stage.
+     *
+     * @param stage The stage to watch.
+     * @param onThrottle Called when the stage loses focus or is minimized.
+     * @param onRestore Called when the stage is focused and shown again.
+     */
+    public WindowThrottle(Stage stage, Runnable onThrottle, Runnable onRestore) {
+        this.stage = stage;
+        this.onThrottle = onThrottle;
+        this.onRestore = onRestore;
+        stage.focusedProperty().addListener(listener);
+        stage.iconifiedProperty().addListener(listener);
+    }
+
+    private void update() {
+        boolean shouldThrottle = !stage.isFocused() || stage.isIconified();
+        if (shouldThrottle && !throttled) {
+            throttled = true;
+            onThrottle.run();
+        } else if (!shouldThrottle && throttled) {
+            throttled = false;
+            onRestore.run();
+        }
+    }
+
+    /**
+     * Checks whether the stage is currently unfocused or minimized.
+     *
+     * @return True if the stage is throttled.
+     */
+    public boolean isThrottled() {
+        return throttled;
+    }
+
+    /**
+     * Stops watching the stage.
+     */
+    public void dispose() {
+        stage.focusedProperty().removeListener(listener);
+        stage.iconifiedProperty().removeListener(listener);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.asteroidsrevamped;
+
+import javafx.scene.layout.Pane;
+import org.example.asteroidsrevamped.core.Entity;
+import org.example.asteroidsrevamped.core.GameSession;
+import org.example.asteroidsrevamped.core.WorldSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Copies world snapshots onto the scene graph, keeping an {@link EntityView} per entity.
+ * Only runs on the JavaFX Application Thread.
+ *
+ * @author Jose Silva
+ */
+public class WorldRenderer {
+
+    private final Pane gamePane;
+    private final GameHud hud;
+    // Tells whether the collision bounds should be drawn
+    private final GameSession session;
+
+    private final Map<Entity, EntityView> views = new WeakHashMap<>();
+    // Views attached to the pane by this renderer, for the previous and the current frame
+    private List<EntityView> attachedViews = new ArrayList<>();
+    private List<EntityView> renderedViews = new ArrayList<>();
+    private long frame;
+    // Cleared by the frame budget governor to stop drawing debug bounds under load
+    private boolean debugBoundsEnabled = true;
+
+    /**
+     * Creates a renderer for the given game pane.
+     *
+     * @param gamePane The pane entity views are added to.
+     * @param hud The display of the player's lives and ammunition.
+     * @param session The game being drawn.
+     */
+    public WorldRenderer(Pane gamePane, GameHud hud, GameSession session) {
+        this.gamePane = gamePane;
+        this.hud = hud;
+        this.session = session;
+    }
+
+    /**
+     * Updates the scene to match a snapshot.
+     *
+     * @param snapshot The snapshot to render.
+     * @param alpha How far to blend the entities from their previous to their current state, from 0 to 1.
+     */
+    public void render(WorldSnapshot snapshot, double alpha) {
+        frame++;
+        boolean showBounds = session.isBoundsVisible() && debugBoundsEnabled;
+
+        for (int i = 0; i < snapshot.getEntityCount(); i++) {
+            EntityView entity = views.computeIfAbsent(snapshot.getEntity(i), EntityView::create);
+            if (!entity.viewAttached) {
+                gamePane.getChildren().add(entity.getView());
+                entity.viewAttached = true;
+            }
+            entity.renderState(snapshot.getX(i, alpha), snapshot.getY(i, alpha), snapshot.getRotation(i, alpha));
+            entity.renderHitPoints(snapshot.getHitPoints(i));
+
+            // Toggle bounds
+            if (showBounds) {
+                if (!entity.debugBoundsAttached) {
+                    entity.makeBoundsVisible(gamePane);
+                    entity.debugBoundsAttached = true;
+                }
+                entity.renderDebugBounds(snapshot.getBoundsX(i), snapshot.getBoundsY(i), snapshot.getCurrentRotation(i));
+            } else if (entity.debugBoundsAttached) {
+                entity.makeBoundsInvisible(gamePane);
+                entity.debugBoundsAttached = false;
+            }
+
+            entity.renderedFrame = frame;
+            renderedViews.add(entity);
+        }
+
+        // Remove the views of entities that are gone from the world
+        for (EntityView entity : attachedViews) {
+            if (entity.renderedFrame != frame) {
+                detach(entity);
+            }
+        }
+        List<EntityView> previous = attachedViews;
+        attachedViews = renderedViews;
+        renderedViews = previous;
+        renderedViews.clear();
+
+        hud.renderLives(snapshot.getLives());
+        hud.renderAmmunition(snapshot.getAmmunition());
+    }
+
+    /**
+     * Allows or prevents drawing the debug bounds, regardless of the player's debug toggle.
+     *
+     * @param debugBoundsEnabled False to hide the debug bounds.
+     */
+    public void setDebugBoundsEnabled(boolean debugBoundsEnabled) {
+        this.debugBoundsEnabled = debugBoundsEnabled;
+    }
+
+    /**
+     * Removes every view from the game pane and forgets them.
+     */
+    public void cleanup() {
+        attachedViews.forEach(this::detach);
+        attachedViews.clear();
+        views.clear();
+    }
+
+    private void detach(EntityView entity) {
+        if (entity.viewAttached) {
+            gamePane.getChildren().remove(entity.getView());
+            entity.viewAttached = false;
+        }
+        if (entity.debugBoundsAttached) {
+            entity.makeBoundsInvisible(gamePane);
+            entity.debugBoundsAttached = false;
+        }
+    }
+}
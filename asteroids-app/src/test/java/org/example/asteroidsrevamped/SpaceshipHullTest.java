@@ -0,0 +1,77 @@
+package org.example.asteroidsrevamped;
+
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Shape;
+import org.example.asteroidsrevamped.core.SpaceshipHull;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link SpaceshipHull#intersectsCircle} gives the same hits as intersecting the {@link SpaceshipShape} with
+ * the asteroid's circle ({@link Shape#intersect}), up to {@link #TOLERANCE} on circles that barely touch the outline.
+ *
+ * @author Jose Silva
+ */
+class SpaceshipHullTest {
+
+    private static final int POSES = 20_000;
+    // Pixels by which a circle may be off the outline when both checks disagree
+    private static final double TOLERANCE = 0.05;
+    // Largest circle tested, bigger than any asteroid
+    private static final double MAX_RADIUS = 70;
+    private static final long SEED = 42;
+
+    @Test
+    void hullGivesTheSameHitsAsShapeIntersection() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Shape ship = new SpaceshipShape().getShape();
+
+        int hits = 0;
+        int failures = 0;
+        String firstFailure = null;
+        for (int i = 0; i < POSES; i++) {
+            double hullX = random.nextDouble(0, 1000);
+            double hullY = random.nextDouble(0, 700);
+            double rotation = random.nextDouble(360);
+            double radius = random.nextDouble(1, MAX_RADIUS);
+            double reach = SpaceshipHull.getReach() + radius;
+            double centerX = hullX + SpaceshipHull.getPivotX() + random.nextDouble(-reach, reach);
+            double centerY = hullY + SpaceshipHull.getPivotY() + random.nextDouble(-reach, reach);
+
+            ship.setTranslateX(hullX);
+            ship.setTranslateY(hullY);
+            ship.setRotate(rotation);
+            boolean hull = SpaceshipHull.intersectsCircle(hullX, hullY, rotation, centerX, centerY, radius);
+            boolean shape = intersects(ship, centerX, centerY, radius);
+            if (shape) {
+                hits++;
+            }
+            if (hull != shape
+                    && intersects(ship, centerX, centerY, radius - TOLERANCE)
+                    == intersects(ship, centerX, centerY, radius + TOLERANCE)) {
+                failures++;
+                if (firstFailure == null) {
+                    firstFailure = String.format("rotation %.3f, circle (%.3f, %.3f) radius %.3f from the hull, "
+                                    + "hull %b, shape %b", rotation, centerX - hullX, centerY - hullY, radius, hull,
+                            shape);
+                }
+            }
+        }
+
+        // Most circles drawn around the ship should reach it, or the comparison says little
+        assertTrue(hits > POSES / 4, hits + " hits out of " + POSES);
+        assertEquals(0, failures, failures + " disagreements away from the outline, the first one at " + firstFailure);
+    }
+
+    /**
+     * The previous collision check, as the ship used to collide with the bounds of an asteroid.
+     */
+    private static boolean intersects(Shape ship, double centerX, double centerY, double radius) {
+        Circle circle = new Circle(centerX, centerY, radius);
+        return Shape.intersect(ship, circle).getBoundsInLocal().getWidth() != -1;
+    }
+}
@@ -0,0 +1,8 @@
+module org.example.asteroidsrevamped.core {
+    // Reads the alpha channel of the asteroid sprites (ImageIO), which works without a display
+    requires java.desktop;
+    // Vector API for the asteroid kinematics and the laser narrowphase, only used when the JVM is started with it
+    requires static jdk.incubator.vector;
+
+    exports org.example.asteroidsrevamped.core;
+}
@@ -0,0 +1,339 @@
+package org.example.asteroidsrevamped.core;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Opaque pixels of an asteroid sprite, at the size the asteroid is drawn, as rows of 64-bit words and coarser tiles,
+ * for pixel-accurate collisions.
+ *
+ * @author Jose Silva
+ */
+public final class AlphaMask {
+
+    /**
+     * Width and height of the coarse tiles, in pixels.
+     */
+    public static final int TILE_SIZE = 8;
+    // Alpha from which a pixel counts as part of the asteroid, out of 255
+    private static final int OPAQUE_ALPHA = 128;
+
+    private static final byte EMPTY = 0;
+    private static final byte MIXED = 1;
+    private static final byte FULL = 2;
+
+    private final int size;
+    private final int wordsPerRow;
+    // Bit x % 64 of word y * wordsPerRow + x / 64 is set if pixel (x, y) is opaque
+    private final long[] words;
+    private final int tilesPerRow;
+    // EMPTY, MIXED or FULL for each tile, row by row
+    private final byte[] tiles;
+    // Distance from the center to the furthest corner of an opaque pixel
+    private final double radius;
+
+    private AlphaMask(int size, long[] words) {
+        this.size = size;
+        this.wordsPerRow = (size + Long.SIZE - 1) / Long.SIZE;
+        this.words = words;
+        this.tilesPerRow = (size + TILE_SIZE - 1) / TILE_SIZE;
+        this.tiles = new byte[tilesPerRow * tilesPerRow];
+
+        double radiusSquared = 0;
+        double center = size / 2.0;
+        for (int tileY = 0; tileY < tilesPerRow; tileY++) {
+            for (int tileX = 0; tileX < tilesPerRow; tileX++) {
+                int opaque = 0;
+                int pixels = 0;
+                for (int y = tileY * TILE_SIZE; y < Math.min(size, (tileY + 1) * TILE_SIZE); y++) {
+                    for (int x = tileX * TILE_SIZE; x < Math.min(size, (tileX + 1) * TILE_SIZE); x++) {
+                        pixels++;
+                        if (isOpaque(x, y)) {
+                            opaque++;
+                            double dx = Math.max(Math.abs(x - center), Math.abs(x + 1 - center));
+                            double dy = Math.max(Math.abs(y - center), Math.abs(y + 1 - center));
+                            radiusSquared = Math.max(radiusSquared, dx * dx + dy * dy);
+                        }
+                    }
+                }
+                tiles[tileY * tilesPerRow + tileX] = opaque == 0 ? EMPTY : opaque == pixels ? FULL : MIXED;
+            }
+        }
+        this.radius = Math.sqrt(radiusSquared);
+    }
+
+    /**
+     * Reads a sprite from the resources of the game and computes its mask.
+     *
+     * @param sprite The resource path of the sprite.
+     * @param size The width and height the sprite is drawn at, in pixels.
+     * @return The mask of the sprite.
+     * @throws IllegalArgumentException If there is no such sprite.
+     * @throws UncheckedIOException If the sprite can't be read.
+     */
+    public static AlphaMask load(String sprite, int size) {
+        try (InputStream in = openSprite(sprite)) {
+            BufferedImage image = ImageIO.read(in);
+            if (image == null) {
+                throw new IllegalArgumentException("Not an image: " + sprite);
+            }
+            int width = image.getWidth();
+            int height = image.getHeight();
+            return fromPixels(image.getRGB(0, 0, width, height, null, 0, width), width, height, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the sprite " + sprite, e);
+        }
+    }
+
+    /**
+     * Opens a sprite from the resources of the game. The asteroid sprites ship with the simulation, which needs their
+     * masks, so the front end loads them from here too. They are kept in this package rather than next to the front
+     * end's images, a package can only belong to one module.
+     *
+     * @param sprite The resource path of the sprite, relative to this package unless it starts with a slash.
+     * @return The image data, to be closed by the caller.
+     * @throws IllegalArgumentException If there is no such sprite.
+     */
+    public static InputStream openSprite(String sprite) {
+        InputStream in = AlphaMask.class.getResourceAsStream(sprite);
+        if (in == null) {
+            throw new IllegalArgumentException("Missing sprite " + sprite);
+        }
+        return in;
+    }
+
+    /**
+     * Computes the mask of an image stretched to a square, the way the sprite is drawn. Each pixel of the mask is
+     * opaque if the average alpha of the image pixels it covers is at least half.
+     *
+     * @param argb The pixels of the image, row by row, as ARGB.
+     * @param width The width of the image.
+     * @param height The height of the image.
+     * @param size The width and height of the mask.
+     * @return The mask of the image.
+     */
+    static AlphaMask fromPixels(int[] argb, int width, int height, int size) {
+        Objects.requireNonNull(argb);
+        int wordsPerRow = (size + Long.SIZE - 1) / Long.SIZE;
+        long[] words = new long[size * wordsPerRow];
+        for (int y = 0; y < size; y++) {
+            int firstRow = y * height / size;
+            int lastRow = Math.max(firstRow + 1, (y + 1) * height / size);
+            for (int x = 0; x < size; x++) {
+                int firstColumn = x * width / size;
+                int lastColumn = Math.max(firstColumn + 1, (x + 1) * width / size);
+                long alpha = 0;
+                for (int row = firstRow; row < lastRow; row++) {
+                    for (int column = firstColumn; column < lastColumn; column++) {
+                        alpha += argb[row * width + column] >>> 24;
+                    }
+                }
+                if (alpha >= (long) OPAQUE_ALPHA * (lastRow - firstRow) * (lastColumn - firstColumn)) {
+                    words[y * wordsPerRow + x / Long.SIZE] |= 1L << x;
+                }
+            }
+        }
+        return new AlphaMask(size, words);
+    }
+
+    /**
+     * Checks whether a pixel of the mask is opaque.
+     *
+     * @param x The column of the pixel, from the left of the sprite.
+     * @param y The row of the pixel, from the top of the sprite.
+     * @return True if the pixel is inside the mask and opaque.
+     */
+    public boolean isOpaque(int x, int y) {
+        if (x < 0 || y < 0 || x >= size || y >= size) {
+            return false;
+        }
+        return (words[y * wordsPerRow + x / Long.SIZE] & 1L << x) != 0;
+    }
+
+    /**
+     * Checks whether a circle overlaps an opaque pixel of an asteroid drawn with this mask.
+     *
+     * @param maskCenterX The x-coordinate of the asteroid's center.
+     * @param maskCenterY The y-coordinate of the asteroid's center.
+     * @param rotation The rotation of the asteroid in degrees.
+     * @param centerX The x-coordinate of the circle's center.
+     * @param centerY The y-coordinate of the circle's center.
+     * @param circleRadius The radius of the circle.
+     * @return True if the circle covers part of an opaque pixel.
+     */
+    public boolean intersectsCircle(double maskCenterX, double maskCenterY, double rotation,
+                                    double centerX, double centerY, double circleRadius) {
+        double dx = centerX - maskCenterX;
+        double dy = centerY - maskCenterY;
+        double reach = radius + circleRadius;
+        if (dx * dx + dy * dy > reach * reach) {
+            return false;
+        }
+        // A circle looks the same at any rotation, so rotate its center into the sprite's space instead of the mask
+        double angle = Math.toRadians(-rotation);
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double center = size / 2.0;
+        return intersectsLocalCircle(dx * cos - dy * sin + center, dx * sin + dy * cos + center, circleRadius);
+    }
+
+    /**
+     * Checks whether a circle overlaps an opaque pixel, the circle being in the sprite's space.
+     */
+    boolean intersectsLocalCircle(double x, double y, double circleRadius) {
+        int firstColumn = Math.max(0, (int) Math.floor(x - circleRadius));
+        int lastColumn = Math.min(size - 1, (int) Math.floor(x + circleRadius));
+        int firstRow = Math.max(0, (int) Math.floor(y - circleRadius));
+        int lastRow = Math.min(size - 1, (int) Math.floor(y + circleRadius));
+        if (firstColumn > lastColumn || firstRow > lastRow || !anyTileOpaque(firstColumn, firstRow, lastColumn, lastRow)) {
+            return false;
+        }
+
+        double radiusSquared = circleRadius * circleRadius;
+        for (int row = firstRow; row <= lastRow; row++) {
+            // Distance from the center to the closest point of the row, then how far the circle spreads along it
+            double dy = Math.max(0, Math.max(row - y, y - (row + 1)));
+            double spread = radiusSquared - dy * dy;
+            if (spread < 0) {
+                continue;
+            }
+            double halfWidth = Math.sqrt(spread);
+            int from = Math.max(firstColumn, (int) Math.floor(x - halfWidth));
+            int to = Math.min(lastColumn, (int) Math.floor(x + halfWidth));
+            if (from <= to && rowIntersects(row, from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a run of pixels of a row has an opaque one, a word at a time.
+     */
+    private boolean rowIntersects(int row, int from, int to) {
+        int rowStart = row * wordsPerRow;
+        for (int word = from / Long.SIZE; word <= to / Long.SIZE; word++) {
+            int first = Math.max(from, word * Long.SIZE) - word * Long.SIZE;
+            int last = Math.min(to, word * Long.SIZE + Long.SIZE - 1) - word * Long.SIZE;
+            long span = (-1L >>> (Long.SIZE - 1 - last)) & (-1L << first);
+            if ((words[rowStart + word] & span) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean anyTileOpaque(int firstColumn, int firstRow, int lastColumn, int lastRow) {
+        for (int tileY = firstRow / TILE_SIZE; tileY <= lastRow / TILE_SIZE; tileY++) {
+            for (int tileX = firstColumn / TILE_SIZE; tileX <= lastColumn / TILE_SIZE; tileX++) {
+                if (tiles[tileY * tilesPerRow + tileX] != EMPTY) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the spaceship's hull overlaps an opaque pixel of an asteroid drawn with this mask.
+     * Tiles too far from the hull are skipped whole, a full tile whose inner circle touches the hull is a hit at
+     * once, and only the opaque pixels of the tiles left are tested one by one.
+     *
+     * @param maskCenterX The x-coordinate of the asteroid's center.
+     * @param maskCenterY The y-coordinate of the asteroid's center.
+     * @param rotation The rotation of the asteroid in degrees.
+     * @param hullX The x-coordinate of the hull's top-left corner.
+     * @param hullY The y-coordinate of the hull's top-left corner.
+     * @param hullRotation The rotation of the hull in degrees.
+     * @return True if the hull covers part of an opaque pixel.
+     */
+    public boolean intersectsHull(double maskCenterX, double maskCenterY, double rotation,
+                                  double hullX, double hullY, double hullRotation) {
+        // From the sprite's space (relative to its center) to the hull's: rotate by the difference of both rotations,
+        // then move by where the sprite's center is in the hull's space
+        double toHull = Math.toRadians(rotation - hullRotation);
+        double cos = Math.cos(toHull);
+        double sin = Math.sin(toHull);
+        double hullAngle = Math.toRadians(-hullRotation);
+        double hullCos = Math.cos(hullAngle);
+        double hullSin = Math.sin(hullAngle);
+        double dx = maskCenterX - (hullX + SpaceshipHull.getPivotX());
+        double dy = maskCenterY - (hullY + SpaceshipHull.getPivotY());
+        double offsetX = dx * hullCos - dy * hullSin + SpaceshipHull.getPivotX();
+        double offsetY = dx * hullSin + dy * hullCos + SpaceshipHull.getPivotY();
+        double center = size / 2.0;
+
+        double half = TILE_SIZE / 2.0;
+        double tileReach = half * Math.sqrt(2);
+        for (int tileY = 0; tileY < tilesPerRow; tileY++) {
+            for (int tileX = 0; tileX < tilesPerRow; tileX++) {
+                byte tile = tiles[tileY * tilesPerRow + tileX];
+                if (tile == EMPTY) {
+                    continue;
+                }
+                double localX = tileX * TILE_SIZE + half - center;
+                double localY = tileY * TILE_SIZE + half - center;
+                double x = localX * cos - localY * sin + offsetX;
+                double y = localX * sin + localY * cos + offsetY;
+                if (!SpaceshipHull.intersectsLocalCircle(x, y, tileReach)) {
+                    continue;
+                }
+                if (tile == FULL && SpaceshipHull.intersectsLocalCircle(x, y, half)) {
+                    return true;
+                }
+                if (tileIntersectsHull(tileX, tileY, cos, sin, offsetX, offsetY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests the opaque pixels of a tile against the hull, each as the circle inside it.
+     */
+    private boolean tileIntersectsHull(int tileX, int tileY, double cos, double sin, double offsetX, double offsetY) {
+        double center = size / 2.0;
+        int firstColumn = tileX * TILE_SIZE;
+        int lastColumn = Math.min(size, firstColumn + TILE_SIZE) - 1;
+        for (int row = tileY * TILE_SIZE; row < Math.min(size, (tileY + 1) * TILE_SIZE); row++) {
+            // The tile's pixels of the row, lowest column in the lowest bit
+            long pixels = words[row * wordsPerRow + firstColumn / Long.SIZE] >>> firstColumn
+                    & (-1L >>> (Long.SIZE - 1 - (lastColumn - firstColumn)));
+            while (pixels != 0) {
+                int column = firstColumn + Long.numberOfTrailingZeros(pixels);
+                pixels &= pixels - 1;
+                double localX = column + 0.5 - center;
+                double localY = row + 0.5 - center;
+                if (SpaceshipHull.intersectsLocalCircle(localX * cos - localY * sin + offsetX,
+                        localX * sin + localY * cos + offsetY, 0.5)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the distance from the center of the sprite to its furthest opaque pixel: every hit with the mask is a hit
+     * with the circle of that radius, so the circle is tested first.
+     *
+     * @return The radius of the circle around the opaque pixels.
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the width and height of the mask, the size the sprite is drawn at.
+     *
+     * @return The size of the mask, in pixels.
+     */
+    public int getSize() {
+        return size;
+    }
+}
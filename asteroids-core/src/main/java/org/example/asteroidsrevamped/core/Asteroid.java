@@ -0,0 +1,146 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An asteroid enemy of a shared {@link AsteroidArchetype}. While in play, its position, rotation and hit points live in
+ * an {@link AsteroidField}.
+ *
+ * @author Jose Silva
+ */
+public final class Asteroid extends Enemy {
+
+    private final AsteroidArchetype archetype;
+    private double velocityX;
+    private double velocityY;
+
+    // Field holding the asteroid's state while in play, and its row in that field
+    AsteroidField field;
+    int index = -1;
+
+    /**
+     * Creates an asteroid of the given type, heading in a random direction.
+     *
+     * @param archetype The type of the asteroid.
+     */
+    public Asteroid(AsteroidArchetype archetype) {
+        this.archetype = archetype;
+        double angle = randomHeading();
+        setVelocity(Math.cos(angle) * archetype.getSpeed(), Math.sin(angle) * archetype.getSpeed());
+    }
+
+    /**
+     * Picks a random direction for an asteroid.
+     *
+     * @return The direction, in radians.
+     */
+    public static double randomHeading() {
+        // Define ranges for angles, avoiding near-horizontal or near-vertical trajectories
+        double[] angleRanges = {
+                ThreadLocalRandom.current().nextDouble(15, 75),
+                ThreadLocalRandom.current().nextDouble(105, 165),
+                ThreadLocalRandom.current().nextDouble(195, 255),
+                ThreadLocalRandom.current().nextDouble(285, 345)
+        };
+        // Randomly pick an angle from one of the ranges
+        double angle = angleRanges[ThreadLocalRandom.current().nextInt(angleRanges.length)];
+        return Math.toRadians(angle);
+    }
+
+    /**
+     * Sets the velocity the asteroid starts with when put in play, for when it is reused.
+     *
+     * @param velocityX The horizontal velocity, in pixels per second.
+     * @param velocityY The vertical velocity, in pixels per second.
+     */
+    void setVelocity(double velocityX, double velocityY) {
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+    }
+
+    public AsteroidArchetype getArchetype() {
+        return archetype;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
+    }
+
+    public double getRotationSpeed() {
+        return archetype.getRotationSpeed();
+    }
+
+    public double getRadius() {
+        return archetype.getRadius();
+    }
+
+    @Override
+    public int getScore() {
+        return archetype.getScore();
+    }
+
+    @Override
+    public String getName() {
+        return archetype.getName();
+    }
+
+    @Override
+    public int getSize() {
+        return archetype.getSize();
+    }
+
+    /**
+     * Checks whether the asteroid is in play.
+     *
+     * @return True if the asteroid is in an asteroid field.
+     */
+    public boolean isActive() {
+        return field != null;
+    }
+
+    @Override
+    public double getX() {
+        return field != null ? field.getX(index) : x;
+    }
+
+    @Override
+    public double getY() {
+        return field != null ? field.getY(index) : y;
+    }
+
+    @Override
+    public double getRotation() {
+        return field != null ? field.getRotation(index) : rotation;
+    }
+
+    /**
+     * Gets the remaining hit points, which are full until the asteroid is put in play.
+     *
+     * @return The number of hit points of the asteroid.
+     */
+    @Override
+    public int getHitPoints() {
+        return field != null ? field.getHitPoints(index) : archetype.getHitPoints();
+    }
+
+    @Override
+    public void removeHitPoint() {
+        if (field != null) {
+            field.removeHitPoint(index);
+        }
+    }
+
+    @Override
+    public double getBoundsX() {
+        return getX() + (double) getSize() / 2;
+    }
+
+    @Override
+    public double getBoundsY() {
+        return getY() + (double) getSize() / 2;
+    }
+}
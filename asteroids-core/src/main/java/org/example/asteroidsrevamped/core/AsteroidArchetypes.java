@@ -0,0 +1,131 @@
+package org.example.asteroidsrevamped.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Table of the asteroid types, compiled once from the asteroids.csv data file next to this class.
+ *
+ * @author Jose Silva
+ */
+public final class AsteroidArchetypes {
+
+    private static final String RESOURCE = "asteroids.csv";
+    private static final int COLUMNS = 8;
+    // Stands for "no damaged sprite" in the data file
+    private static final String NONE = "-";
+
+    private static AsteroidArchetypes defaultTable;
+
+    private final AsteroidArchetype[] archetypes;
+
+    private AsteroidArchetypes(List<AsteroidArchetype> archetypes) {
+        this.archetypes = archetypes.toArray(new AsteroidArchetype[0]);
+    }
+
+    /**
+     * Gets the table read from the data file shipped with the game, loading it on first use.
+     *
+     * @return The default asteroid types.
+     */
+    public static synchronized AsteroidArchetypes getDefault() {
+        if (defaultTable == null) {
+            defaultTable = load(Objects.requireNonNull(AsteroidArchetypes.class.getResourceAsStream(RESOURCE),
+                    "Missing " + RESOURCE));
+        }
+        return defaultTable;
+    }
+
+    /**
+     * Reads a table of asteroid types.
+     *
+     * @param in The data file, closed once read.
+     * @return The asteroid types, in the order of the file.
+     * @throws IllegalArgumentException If a line is malformed, or names a missing sprite.
+     */
+    public static AsteroidArchetypes load(InputStream in) {
+        List<AsteroidArchetype> archetypes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            boolean header = true;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                archetypes.add(parse(archetypes.size(), line, lineNumber));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the asteroid types", e);
+        }
+        if (archetypes.isEmpty()) {
+            throw new IllegalArgumentException("No asteroid types defined");
+        }
+        return new AsteroidArchetypes(archetypes);
+    }
+
+    private static AsteroidArchetype parse(int index, String line, int lineNumber) {
+        String[] columns = line.split(",");
+        if (columns.length != COLUMNS) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": expected " + COLUMNS + " columns, got "
+                    + columns.length);
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].strip();
+        }
+        try {
+            int size = Integer.parseInt(columns[2]);
+            String damagedSprite = columns[7].equals(NONE) ? null : columns[7];
+            AlphaMask mask = AlphaMask.load(columns[6], size);
+            AlphaMask damagedMask = damagedSprite != null ? AlphaMask.load(damagedSprite, size) : null;
+            return new AsteroidArchetype(index, columns[0], Integer.parseInt(columns[1]), size,
+                    Double.parseDouble(columns[3]), Integer.parseInt(columns[4]), Integer.parseInt(columns[5]),
+                    columns[6], damagedSprite, mask, damagedMask);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets an asteroid type by position.
+     *
+     * @param index The index of the type, in the order of the data file.
+     * @return The asteroid type.
+     */
+    public AsteroidArchetype get(int index) {
+        return archetypes[index];
+    }
+
+    /**
+     * Gets every asteroid type of a difficulty tier.
+     *
+     * @param tier 1 for easy, 2 for medium, 3 for hard.
+     * @return The asteroid types of the tier, possibly none.
+     */
+    public List<AsteroidArchetype> getTier(int tier) {
+        List<AsteroidArchetype> result = new ArrayList<>();
+        for (AsteroidArchetype archetype : archetypes) {
+            if (archetype.getTier() == tier) {
+                result.add(archetype);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return archetypes.length;
+    }
+}
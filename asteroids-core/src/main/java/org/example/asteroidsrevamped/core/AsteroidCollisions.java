@@ -0,0 +1,130 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Bounces the asteroids of a field off each other, perfectly elastically, once per step after the laser and ship tests.
+ * Overlapping asteroids are found with a {@link SpatialGrid} of their own.
+ *
+ * @author Jose Silva
+ */
+public class AsteroidCollisions {
+
+    // Share of the sliding speed at the contact turned into spin
+    private static final double ROTATION_KICK = 0.25;
+    // Fastest an asteroid can be set spinning, in degrees per second
+    private static final double MAX_ROTATION_SPEED = 720;
+
+    private final SpatialGrid grid;
+    // Pairs resolved during the last step
+    private int contacts;
+
+    /**
+     * Creates the collision pass of a world.
+     *
+     * @param width The width of the world, where it wraps around.
+     * @param height The height of the world, where it wraps around.
+     * @param cellSize The size of the largest asteroid.
+     */
+    public AsteroidCollisions(double width, double height, double cellSize) {
+        this.grid = new SpatialGrid(width, height, cellSize);
+    }
+
+    /**
+     * Separates and bounces every pair of overlapping asteroids of a field.
+     *
+     * @param field The asteroids, after they moved during the step.
+     * @return The number of pairs that overlapped.
+     */
+    public int resolve(AsteroidField field) {
+        grid.build(field);
+        contacts = 0;
+        double[] x = field.x;
+        double[] y = field.y;
+        double[] size = field.size;
+        double[] radius = field.radius;
+        for (int i = 0; i < field.size(); i++) {
+            int candidates = grid.query(x[i] + size[i] / 2, y[i] + size[i] / 2, radius[i]);
+            for (int c = 0; c < candidates; c++) {
+                int j = grid.getCandidate(c);
+                // Each pair is found from both sides, resolve it once
+                if (j > i && resolvePair(field, i, j)) {
+                    contacts++;
+                }
+            }
+        }
+        return contacts;
+    }
+
+    /**
+     * Separates and bounces two asteroids if they overlap.
+     *
+     * @return True if they overlapped.
+     */
+    private static boolean resolvePair(AsteroidField field, int i, int j) {
+        double[] x = field.x;
+        double[] y = field.y;
+        double[] velocityX = field.velocityX;
+        double[] velocityY = field.velocityY;
+        double[] rotationSpeed = field.rotationSpeed;
+        double[] size = field.size;
+        double[] radius = field.radius;
+
+        double dx = x[j] + size[j] / 2 - (x[i] + size[i] / 2);
+        double dy = y[j] + size[j] / 2 - (y[i] + size[i] / 2);
+        double reach = radius[i] + radius[j];
+        double distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared >= reach * reach) {
+            return false;
+        }
+        double distance = Math.sqrt(distanceSquared);
+        // Normal from i to j, any direction will do for asteroids right on top of each other
+        double normalX = distance > 0 ? dx / distance : 1;
+        double normalY = distance > 0 ? dy / distance : 0;
+
+        // Share of the correction and of the bounce each one takes, the lighter one the most. Asteroids weigh as much
+        // as their area
+        double massI = size[i] * size[i];
+        double massJ = size[j] * size[j];
+        double shareI = massJ / (massI + massJ);
+        double shareJ = massI / (massI + massJ);
+
+        double overlap = reach - distance;
+        x[i] -= normalX * overlap * shareI;
+        y[i] -= normalY * overlap * shareI;
+        x[j] += normalX * overlap * shareJ;
+        y[j] += normalY * overlap * shareJ;
+
+        // Moving apart already, after an earlier bounce or correction
+        double relativeX = velocityX[j] - velocityX[i];
+        double relativeY = velocityY[j] - velocityY[i];
+        double approach = relativeX * normalX + relativeY * normalY;
+        if (approach >= 0) {
+            return true;
+        }
+        // Elastic bounce: the relative speed along the normal is reversed
+        velocityX[i] += 2 * approach * shareI * normalX;
+        velocityY[i] += 2 * approach * shareI * normalY;
+        velocityX[j] -= 2 * approach * shareJ * normalX;
+        velocityY[j] -= 2 * approach * shareJ * normalY;
+
+        // Surfaces sliding past each other spin both asteroids the same way, the lighter and smaller one the most
+        double sliding = relativeY * normalX - relativeX * normalY;
+        rotationSpeed[i] = clampRotationSpeed(rotationSpeed[i]
+                + Math.toDegrees(ROTATION_KICK * sliding * shareI / radius[i]));
+        rotationSpeed[j] = clampRotationSpeed(rotationSpeed[j]
+                + Math.toDegrees(ROTATION_KICK * sliding * shareJ / radius[j]));
+        return true;
+    }
+
+    private static double clampRotationSpeed(double rotationSpeed) {
+        return Math.max(-MAX_ROTATION_SPEED, Math.min(MAX_ROTATION_SPEED, rotationSpeed));
+    }
+
+    /**
+     * Gets how many pairs of asteroids overlapped during the last step.
+     *
+     * @return The number of pairs resolved.
+     */
+    public int getContacts() {
+        return contacts;
+    }
+}
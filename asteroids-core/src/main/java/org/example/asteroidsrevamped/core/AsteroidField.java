@@ -0,0 +1,296 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.Arrays;
+
+/**
+ * Kinematic state of the asteroids in play, stored as parallel primitive arrays (structure of arrays) with one packed
+ * row per asteroid.
+ *
+ * @author Jose Silva
+ */
+public class AsteroidField {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    // Registers the asteroids while they are in play
+    private final EntityRegistry registry;
+    // Moves the asteroids, read straight from the arrays below
+    private AsteroidKinematics kinematics = AsteroidKinematics.getDefault();
+
+    private Asteroid[] asteroids = new Asteroid[INITIAL_CAPACITY];
+    // Top-left corner and rotation, at the current and at the previous step
+    double[] x = new double[INITIAL_CAPACITY];
+    double[] y = new double[INITIAL_CAPACITY];
+    double[] rotation = new double[INITIAL_CAPACITY];
+    double[] previousX = new double[INITIAL_CAPACITY];
+    double[] previousY = new double[INITIAL_CAPACITY];
+    double[] previousRotation = new double[INITIAL_CAPACITY];
+    // Velocity in pixels per second, rotation speed in degrees per second
+    double[] velocityX = new double[INITIAL_CAPACITY];
+    double[] velocityY = new double[INITIAL_CAPACITY];
+    double[] rotationSpeed = new double[INITIAL_CAPACITY];
+    // Size of the sprite, and radius of the collision circle centered on it
+    double[] size = new double[INITIAL_CAPACITY];
+    double[] radius = new double[INITIAL_CAPACITY];
+    private int[] hitPoints = new int[INITIAL_CAPACITY];
+    private int[] handles = new int[INITIAL_CAPACITY];
+    private int count;
+
+    /**
+     * Creates an empty field.
+     *
+     * @param registry Hands out the handles of the asteroids put in play.
+     */
+    public AsteroidField(EntityRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Puts an asteroid in play at the given position, moving along its own trajectory.
+     *
+     * @param asteroid The asteroid to add. Must not be in play already.
+     * @param startX The x-coordinate of the asteroid's top-left corner.
+     * @param startY The y-coordinate of the asteroid's top-left corner.
+     */
+    public void add(Asteroid asteroid, double startX, double startY) {
+        if (count == asteroids.length) {
+            grow(asteroids.length * 2);
+        }
+        int i = count++;
+        asteroids[i] = asteroid;
+        x[i] = startX;
+        y[i] = startY;
+        rotation[i] = 0;
+        // Spawning is a jump, don't blend from anywhere else
+        previousX[i] = startX;
+        previousY[i] = startY;
+        previousRotation[i] = 0;
+        velocityX[i] = asteroid.getVelocityX();
+        velocityY[i] = asteroid.getVelocityY();
+        rotationSpeed[i] = asteroid.getRotationSpeed();
+        size[i] = asteroid.getSize();
+        radius[i] = asteroid.getRadius();
+        hitPoints[i] = asteroid.getHitPoints();
+        handles[i] = registry.create();
+        asteroid.handle = handles[i];
+        asteroid.field = this;
+        asteroid.index = i;
+    }
+
+    /**
+     * Takes an asteroid out of play. The last asteroid moves into the freed row.
+     *
+     * @param i The row of the asteroid to remove.
+     * @return The removed asteroid.
+     */
+    public Asteroid remove(int i) {
+        Asteroid removed = asteroids[i];
+        registry.release(handles[i]);
+        int last = --count;
+        if (i != last) {
+            asteroids[i] = asteroids[last];
+            x[i] = x[last];
+            y[i] = y[last];
+            rotation[i] = rotation[last];
+            previousX[i] = previousX[last];
+            previousY[i] = previousY[last];
+            previousRotation[i] = previousRotation[last];
+            velocityX[i] = velocityX[last];
+            velocityY[i] = velocityY[last];
+            rotationSpeed[i] = rotationSpeed[last];
+            size[i] = size[last];
+            radius[i] = radius[last];
+            hitPoints[i] = hitPoints[last];
+            handles[i] = handles[last];
+            asteroids[i].index = i;
+        }
+        asteroids[last] = null;
+        removed.field = null;
+        removed.index = -1;
+        removed.handle = EntityRegistry.NONE;
+        return removed;
+    }
+
+    /**
+     * Moves, rotates and wraps every asteroid by one step.
+     *
+     * @param deltaTime The length of the step, in seconds.
+     * @param offscreenRotation Whether asteroids outside the screen should keep rotating.
+     */
+    public void update(double deltaTime, boolean offscreenRotation) {
+        kinematics.integrate(this, deltaTime, offscreenRotation);
+    }
+
+    public AsteroidKinematics getKinematics() {
+        return kinematics;
+    }
+
+    public void setKinematics(AsteroidKinematics kinematics) {
+        this.kinematics = kinematics;
+    }
+
+    /**
+     * Removes one hit point from an asteroid.
+     *
+     * @param i The row of the asteroid.
+     * @return The hit points left.
+     */
+    public int removeHitPoint(int i) {
+        if (hitPoints[i] >= 0) {
+            hitPoints[i]--;
+        }
+        return hitPoints[i];
+    }
+
+    /**
+     * Copies every asteroid into a snapshot.
+     *
+     * @param snapshot The snapshot to add the asteroids to.
+     */
+    public void capture(WorldSnapshot snapshot) {
+        for (int i = 0; i < count; i++) {
+            double half = size[i] / 2;
+            snapshot.addEntity(asteroids[i], previousX[i], previousY[i], previousRotation[i], x[i], y[i], rotation[i],
+                    x[i] + half, y[i] + half, hitPoints[i]);
+        }
+    }
+
+    /**
+     * Takes every asteroid out of play.
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            registry.release(handles[i]);
+            asteroids[i].field = null;
+            asteroids[i].index = -1;
+            asteroids[i].handle = EntityRegistry.NONE;
+        }
+        Arrays.fill(asteroids, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Makes room for a number of asteroids in play at the same time, so that adding them grows neither the field nor
+     * its registry.
+     *
+     * @param asteroids The number of asteroids.
+     */
+    public void ensureCapacity(int asteroids) {
+        if (this.asteroids.length < asteroids) {
+            grow(Math.max(asteroids, this.asteroids.length * 2));
+        }
+        registry.ensureCapacity(asteroids);
+    }
+
+    /**
+     * Gets the number of asteroids the field holds room for. Per-row arrays of this length can be indexed by any row,
+     * until the field grows again.
+     *
+     * @return The number of rows, in use or not.
+     */
+    public int getCapacity() {
+        return asteroids.length;
+    }
+
+    private void grow(int capacity) {
+        asteroids = Arrays.copyOf(asteroids, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        previousRotation = Arrays.copyOf(previousRotation, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        rotationSpeed = Arrays.copyOf(rotationSpeed, capacity);
+        size = Arrays.copyOf(size, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        hitPoints = Arrays.copyOf(hitPoints, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public Asteroid getAsteroid(int i) {
+        return asteroids[i];
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double getRotation(int i) {
+        return rotation[i];
+    }
+
+    /**
+     * Gets the rotation of an asteroid at the start of the last step, the same as now if it wrapped around.
+     *
+     * @param i The row of the asteroid.
+     * @return The previous rotation in degrees.
+     */
+    public double getPreviousRotation(int i) {
+        return previousRotation[i];
+    }
+
+    /**
+     * Gets the opaque pixels of the sprite an asteroid is shown with, the damaged one once it lost a hit point.
+     *
+     * @param i The row of the asteroid.
+     * @return The collision mask of the asteroid.
+     */
+    public AlphaMask getMask(int i) {
+        AsteroidArchetype archetype = asteroids[i].getArchetype();
+        return archetype.getMask(hitPoints[i] < archetype.getHitPoints());
+    }
+
+    /**
+     * Gets the x-coordinate of the center of an asteroid's collision circle.
+     *
+     * @param i The row of the asteroid.
+     * @return The x-coordinate of the center.
+     */
+    public double getCenterX(int i) {
+        return x[i] + size[i] / 2;
+    }
+
+    /**
+     * Gets the y-coordinate of the center of an asteroid's collision circle.
+     *
+     * @param i The row of the asteroid.
+     * @return The y-coordinate of the center.
+     */
+    public double getCenterY(int i) {
+        return y[i] + size[i] / 2;
+    }
+
+    public double getVelocityX(int i) {
+        return velocityX[i];
+    }
+
+    public double getVelocityY(int i) {
+        return velocityY[i];
+    }
+
+    public double getRadius(int i) {
+        return radius[i];
+    }
+
+    public int getHitPoints(int i) {
+        return hitPoints[i];
+    }
+
+    public int getHandle(int i) {
+        return handles[i];
+    }
+}
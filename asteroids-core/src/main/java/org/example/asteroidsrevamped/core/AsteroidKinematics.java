@@ -0,0 +1,147 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Moves, rotates and wraps every asteroid of an {@link AsteroidField} by one step, with the Vector API when the incubator
+ * module is present and a scalar loop otherwise ({@code -Dasteroids.vectorKinematics=false} forces it).
+ *
+ * @author Jose Silva
+ */
+public abstract class AsteroidKinematics {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_PROPERTY = "asteroids.vectorKinematics";
+
+    private static final AsteroidKinematics SCALAR = new Scalar();
+    // Loaded on first use, only when the incubator module is present
+    private static AsteroidKinematics vector;
+    private static boolean vectorLoaded;
+
+    AsteroidKinematics() {
+    }
+
+    /**
+     * Gets the fastest implementation this JVM can run, unless told to use the scalar loop.
+     *
+     * @return The vector implementation if available, the scalar one otherwise.
+     */
+    public static AsteroidKinematics getDefault() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+            return SCALAR;
+        }
+        AsteroidKinematics vectorKinematics = vector();
+        return vectorKinematics != null ? vectorKinematics : SCALAR;
+    }
+
+    public static AsteroidKinematics scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Gets the implementation using the Vector API.
+     *
+     * @return The vector implementation, or null if the JVM was started without the incubator module.
+     */
+    public static synchronized AsteroidKinematics vector() {
+        if (!vectorLoaded) {
+            vectorLoaded = true;
+            // Only touch the vector classes once the module is known to be there
+            if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+                try {
+                    vector = new VectorAsteroidKinematics();
+                } catch (LinkageError e) {
+                    System.out.println("Vector API unavailable, using scalar asteroid kinematics: " + e);
+                }
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Gets the name of the implementation, as shown in logs and benchmarks.
+     *
+     * @return The name of the implementation.
+     */
+    public abstract String getName();
+
+    /**
+     * Moves, rotates and wraps every asteroid of a field by one step.
+     *
+     * @param field The asteroids to update.
+     * @param deltaTime The length of the step, in seconds.
+     * @param offscreenRotation Whether asteroids outside the screen should keep rotating.
+     */
+    abstract void integrate(AsteroidField field, double deltaTime, boolean offscreenRotation);
+
+    /**
+     * Updates the rows of a field one by one, from a given row to the last.
+     * The whole pass of the scalar implementation, and the remainder of the vector one.
+     */
+    static void integrateScalar(AsteroidField field, int from, double deltaTime, boolean offscreenRotation) {
+        double width = GameWorld.WIDTH;
+        double height = GameWorld.HEIGHT;
+        double[] x = field.x;
+        double[] y = field.y;
+        double[] rotation = field.rotation;
+        double[] previousX = field.previousX;
+        double[] previousY = field.previousY;
+        double[] previousRotation = field.previousRotation;
+        double[] velocityX = field.velocityX;
+        double[] velocityY = field.velocityY;
+        double[] rotationSpeed = field.rotationSpeed;
+        double[] size = field.size;
+        int count = field.size();
+        for (int i = from; i < count; i++) {
+            double s = size[i];
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            previousRotation[i] = rotation[i];
+            double newX = x[i] + velocityX[i] * deltaTime;
+            double newY = y[i] + velocityY[i] * deltaTime;
+
+            // Only rotate what can be seen, unless told otherwise
+            if (offscreenRotation || (newX + s > 0 && newX < width && newY + s > 0 && newY < height)) {
+                rotation[i] += rotationSpeed[i] * deltaTime;
+            }
+
+            // Wrap around when reaching a border, without blending the jump to the other side of the screen
+            boolean wrapped = false;
+            if (newX > width) {
+                newX = -s;
+                wrapped = true;
+            } else if (newX < -s) {
+                newX = width;
+                wrapped = true;
+            }
+            if (newY > height) {
+                newY = -s;
+                wrapped = true;
+            } else if (newY < -s) {
+                newY = height;
+                wrapped = true;
+            }
+            x[i] = newX;
+            y[i] = newY;
+            if (wrapped) {
+                previousX[i] = newX;
+                previousY[i] = newY;
+                previousRotation[i] = rotation[i];
+            }
+        }
+    }
+
+    /**
+     * One asteroid at a time, on any JVM.
+     */
+    private static final class Scalar extends AsteroidKinematics {
+
+        @Override
+        public String getName() {
+            return "scalar";
+        }
+
+        @Override
+        void integrate(AsteroidField field, double deltaTime, boolean offscreenRotation) {
+            integrateScalar(field, 0, deltaTime, offscreenRotation);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stores the asteroids to be spawned in the current level, reusing the ones destroyed in earlier levels.
+ * Requires passing it the plan of each level when it starts.
+ *
+ * @author Jose Silva
+ */
+public class AsteroidPool {
+
+    private static final double SECOND_PER_FRAMES = 0.016;
+    // Simulation seconds between each asteroid spawn
+    private static final double SPAWN_INTERVAL = 1.0;
+    // Most asteroids of one type a pool creates
+    private static final int MAX_ASTEROIDS_PER_TYPE = 1024;
+
+    private final TimerWheel timers;
+    // Periodic spawn, cancelled once the pool runs out and restarted by the next level
+    private TimerWheel.Timer spawnTimer;
+
+    // One pool per asteroid type, by archetype index. Destroyed asteroids go back to the pool of their type
+    private final List<ObjectPool<Asteroid>> typePools = new ArrayList<>();
+    // pool is used to store available asteroids
+    private final Deque<Asteroid> pool = new ArrayDeque<>();
+    // asteroids currently in play
+    private final AsteroidField activeAsteroids;
+
+    /**
+     * Creates an empty pool. Nothing spawns until {@link #startLevel(LevelPlan)} is called.
+     *
+     * @param session The game the asteroids belong to, giving the asteroid types.
+     * @param timers Times the spawns.
+     * @param registry Hands out the handles of the asteroids put in play.
+     */
+    public AsteroidPool(GameSession session, TimerWheel timers, EntityRegistry registry) {
+        AsteroidArchetypes archetypes = session.getArchetypes();
+        this.timers = timers;
+        this.activeAsteroids = new AsteroidField(registry);
+        SimulationClock clock = timers.getClock();
+        for (int i = 0; i < archetypes.size(); i++) {
+            AsteroidArchetype archetype = archetypes.get(i);
+            typePools.add(new ObjectPool<>(archetype.getName(), () -> new Asteroid(archetype), 0,
+                    MAX_ASTEROIDS_PER_TYPE, ObjectPool.GrowthPolicy.ON_DEMAND, clock::getTime));
+        }
+    }
+
+    /**
+     * Fills the pool with the asteroids of a new level, in the order of its plan, and starts spawning them.
+     * Asteroids left from the previous level, if any, are recycled first.
+     *
+     * @param plan The types, spawn order and directions of the level's asteroids.
+     */
+    public void startLevel(LevelPlan plan) {
+        recycleAsteroids();
+        // Create what the level needs in one go, and make room for all of it in play at once
+        for (int i = 0; i < typePools.size(); i++) {
+            typePools.get(i).preallocate(plan.getTypeCount(i));
+        }
+        activeAsteroids.ensureCapacity(plan.getAsteroidCount());
+        for (int i = 0; i < plan.getAsteroidCount(); i++) {
+            ObjectPool<Asteroid> typePool = typePools.get(plan.getArchetype(i));
+            Asteroid asteroid = typePool.acquire();
+            if (asteroid == null) {
+                throw new IllegalStateException("Too many asteroids of type " + typePool.getName());
+            }
+            asteroid.setVelocity(plan.getVelocityX(i), plan.getVelocityY(i));
+            pool.offer(asteroid);
+        }
+        // First asteroid spawns straight away
+        if (spawnTimer == null) {
+            spawnTimer = timers.scheduleAtFixedRate(0, SPAWN_INTERVAL, this::spawnAsteroid);
+        } else {
+            timers.restart(spawnTimer, 0);
+        }
+    }
+
+    /**
+     * returns the next asteroid in the queue. Returns null if pool is empty.
+     * The asteroid is not in play until it is added to the active asteroids.
+     * @return Asteroid
+     */
+    public Asteroid getAsteroid() {
+        return pool.poll();
+    }
+
+    public Deque<Asteroid> getPool() {
+        return pool;
+    }
+
+    public AsteroidField getActiveAsteroids() {
+        return activeAsteroids;
+    }
+
+    /**
+     * Gives every asteroid still waiting to spawn or in play back to the pool of its type.
+     */
+    private void recycleAsteroids() {
+        Asteroid asteroid;
+        while ((asteroid = pool.poll()) != null) {
+            typePools.get(asteroid.getArchetype().getIndex()).release(asteroid);
+        }
+        while (!activeAsteroids.isEmpty()) {
+            destroyAsteroid(activeAsteroids.size() - 1);
+        }
+    }
+
+    /**
+     * Removes an asteroid from the pool and places it just above the screen. Runs every second from the spawn timer.
+     */
+    private void spawnAsteroid() {
+        Asteroid asteroid = getAsteroid();
+        if (asteroid != null) {
+            // Set asteroid to random position
+            activeAsteroids.add(asteroid, ThreadLocalRandom.current().nextDouble(-asteroid.getSize(),
+                    GameWorld.WIDTH + asteroid.getSize()), -asteroid.getSize());
+        }
+        if (pool.isEmpty()) {
+            timers.cancel(spawnTimer);
+        }
+    }
+
+    /**
+     * Takes a destroyed asteroid out of play and gives it back to the pool of its type.
+     *
+     * @param i The row of the asteroid in the active asteroids.
+     */
+    public void destroyAsteroid(int i) {
+        Asteroid asteroid = activeAsteroids.remove(i);
+        typePools.get(asteroid.getArchetype().getIndex()).release(asteroid);
+    }
+
+    /**
+     * Gets the pool of an asteroid type, with its usage counters.
+     *
+     * @param archetype The asteroid type.
+     * @return The pool of the type.
+     */
+    public ObjectPool<Asteroid> getTypePool(AsteroidArchetype archetype) {
+        return typePools.get(archetype.getIndex());
+    }
+
+    /**
+     * Calculate and update each active asteroid's simulated position and rotation, wrapping around the screen borders.
+     * @param offscreenRotation whether asteroids outside the screen should keep rotating.
+     */
+    public void updateAsteroids(double deltaTime, boolean offscreenRotation) {
+        activeAsteroids.update(deltaTime, offscreenRotation);
+    }
+
+    /**
+     * Cleanup resources.
+     */
+    public void cleanup() {
+        timers.cancel(spawnTimer);
+        recycleAsteroids();
+        for (ObjectPool<Asteroid> typePool : typePools) {
+            if (typePool.getAcquires() > 0) {
+                System.out.println(typePool);
+            }
+        }
+
+        System.out.println("AsteroidPool cleanup complete");
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Store collision detection methods.
+ *
+ * @author Jose Silva.
+ */
+public final class CollisionDetector {
+
+    // Batched laser test, on the Vector API when the JVM has it
+    private static final LaserNarrowphase NARROWPHASE = LaserNarrowphase.getDefault();
+
+    private CollisionDetector() {
+    }
+
+    /**
+     * Compares the distance between the centers of 2 circles with the sum of their radii, both squared.
+     * Returns true if the distance is less than or equal to the sum of their radii.
+     * @param x1 x-coordinate of the first circle's center.
+     * @param y1 y-coordinate of the first circle's center.
+     * @param radius1 radius of the first circle.
+     * @param x2 x-coordinate of the second circle's center.
+     * @param y2 y-coordinate of the second circle's center.
+     * @param radius2 radius of the second circle.
+     * @return boolean
+     */
+    public static boolean didCirclesCollide(double x1, double y1, double radius1, double x2, double y2, double radius2) {
+
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        double reach = radius1 + radius2;
+
+        return dx * dx + dy * dy <= reach * reach;
+    }
+
+    /**
+     * Value returned by the swept tests when nothing is hit during the step.
+     */
+    public static final double NO_HIT = -1;
+
+    /**
+     * Finds when a point moving along a segment first comes within a distance of the origin.
+     * The segment is the path swept during a step, so nothing it passes through is missed however fast it moves.
+     * @param startX x-coordinate of the point at the start of the step.
+     * @param startY y-coordinate of the point at the start of the step.
+     * @param endX x-coordinate of the point at the end of the step.
+     * @param endY y-coordinate of the point at the end of the step.
+     * @param radius distance at which the point hits the origin.
+     * @return the share of the step, from 0 to 1, after which the point hits, or {@link #NO_HIT}.
+     */
+    public static double sweptHitTime(double startX, double startY, double endX, double endY, double radius) {
+        double radiusSquared = radius * radius;
+        double c = startX * startX + startY * startY - radiusSquared;
+        // Already touching at the start of the step
+        if (c <= 0) {
+            return 0;
+        }
+        // Solve |start + t * (end - start)| = radius for the first t
+        double dx = endX - startX;
+        double dy = endY - startY;
+        double a = dx * dx + dy * dy;
+        double b = startX * dx + startY * dy;
+        // Not moving, or moving away
+        if (a == 0 || b >= 0) {
+            return NO_HIT;
+        }
+        double discriminant = b * b - a * c;
+        if (discriminant < 0) {
+            return NO_HIT;
+        }
+        double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : NO_HIT;
+    }
+
+    /**
+     * Finds when a laser hit an asteroid during the last step, following both along their paths.
+     * The test runs in the asteroid's frame, where the laser sweeps a segment and the asteroid stands still, so a
+     * laser crossing a whole asteroid within one step still hits it.
+     * @param asteroids asteroids in play.
+     * @param i row of the asteroid in question.
+     * @param laser laser in question, at the end of the step.
+     * @param deltaTime length of the step, in seconds.
+     * @return the share of the step, from 0 to 1, after which the laser hit the asteroid, or {@link #NO_HIT}.
+     */
+    public static double laserHitTime(AsteroidField asteroids, int i, Laser laser, double deltaTime) {
+        double endX = laser.getBoundsX() - asteroids.getCenterX(i);
+        double endY = laser.getBoundsY() - asteroids.getCenterY(i);
+        double startX = endX - (laser.getVelocityX() - asteroids.getVelocityX(i)) * deltaTime;
+        double startY = endY - (laser.getVelocityY() - asteroids.getVelocityY(i)) * deltaTime;
+        return sweptHitTime(startX, startY, endX, endY, asteroids.getRadius(i) + laser.getRadius());
+    }
+
+    /**
+     * Finds when a laser hit the opaque pixels of an asteroid's sprite during the last step.
+     * The circle around the sprite is tested first with {@link #laserHitTime}. Only if it was hit, the laser is
+     * followed from there to the end of the step, in steps no longer than its radius, and tested against the sprite's
+     * mask as the asteroid turns.
+     * @param asteroids asteroids in play.
+     * @param i row of the asteroid in question.
+     * @param laser laser in question, at the end of the step.
+     * @param deltaTime length of the step, in seconds.
+     * @return the share of the step, from 0 to 1, after which the laser hit the sprite, or {@link #NO_HIT}.
+     */
+    public static double laserSpriteHitTime(AsteroidField asteroids, int i, Laser laser, double deltaTime) {
+        double circleTime = laserHitTime(asteroids, i, laser, deltaTime);
+        if (circleTime == NO_HIT) {
+            return NO_HIT;
+        }
+        AlphaMask mask = asteroids.getMask(i);
+        double endX = laser.getBoundsX() - asteroids.getCenterX(i);
+        double endY = laser.getBoundsY() - asteroids.getCenterY(i);
+        double moveX = (laser.getVelocityX() - asteroids.getVelocityX(i)) * deltaTime;
+        double moveY = (laser.getVelocityY() - asteroids.getVelocityY(i)) * deltaTime;
+        double startRotation = asteroids.getPreviousRotation(i);
+        double turn = asteroids.getRotation(i) - startRotation;
+
+        int samples = (int) Math.ceil(Math.hypot(moveX, moveY) * (1 - circleTime) / laser.getRadius());
+        for (int s = 0; s <= samples; s++) {
+            double time = samples == 0 ? circleTime : circleTime + (1 - circleTime) * s / samples;
+            double left = 1 - time;
+            if (mask.intersectsCircle(0, 0, startRotation + turn * time, endX - moveX * left, endY - moveY * left,
+                    laser.getRadius())) {
+                return time;
+            }
+        }
+        return NO_HIT;
+    }
+
+    /**
+     * Tests a laser against a block of the asteroids found by the last packed query of a grid at once, following both
+     * along their paths like {@link #laserHitTime}, but only to tell which ones it hit.
+     * @param grid grid holding the packed candidates, see {@link SpatialGrid#queryPacked}.
+     * @param from first candidate of the block.
+     * @param count number of candidates in the block, at most {@link LaserNarrowphase#BLOCK_SIZE}.
+     * @param laser laser in question, at the end of the step.
+     * @param deltaTime length of the step, in seconds.
+     * @return a mask with bit k set if the laser hit candidate from + k during the step.
+     */
+    public static long laserHitMask(SpatialGrid grid, int from, int count, Laser laser, double deltaTime) {
+        return NARROWPHASE.hitMask(grid, from, count, laser, deltaTime);
+    }
+
+    /**
+     * Checks whether an asteroid's sprite overlaps the spaceship's hull: the circle around the sprite first, then the
+     * opaque pixels of the sprite.
+     * @param spaceship spaceship in question.
+     * @param asteroids asteroids in play.
+     * @param i row of the asteroid in question.
+     * @return boolean
+     */
+    public static boolean didShipCollide(Spaceship spaceship, AsteroidField asteroids, int i) {
+        double hullX = spaceship.getBoundsX();
+        double hullY = spaceship.getBoundsY();
+        double hullRotation = spaceship.getRotation();
+        double centerX = asteroids.getCenterX(i);
+        double centerY = asteroids.getCenterY(i);
+        return SpaceshipHull.intersectsCircle(hullX, hullY, hullRotation, centerX, centerY, asteroids.getRadius(i))
+                && asteroids.getMask(i).intersectsHull(centerX, centerY, asteroids.getRotation(i),
+                hullX, hullY, hullRotation);
+    }
+}
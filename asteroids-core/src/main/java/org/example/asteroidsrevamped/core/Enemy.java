@@ -0,0 +1,64 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Abstract class representing an enemy in the game world.
+
+ * This class provides the foundation to all enemies in the game world.
+ * @author Jose Silva
+ */
+public abstract class Enemy extends Entity {
+
+    // Handle from the world's entity registry while in play, NONE otherwise
+    int handle = EntityRegistry.NONE;
+
+    /**
+     * Creates an enemy out of play.
+     */
+    protected Enemy() {
+    }
+
+    // Getters
+    /**
+     * Gets the score awarded for defeating the enemy.
+     *
+     * @return The score of the enemy.
+     */
+    public abstract int getScore ();
+
+    /**
+     * Gets the handle identifying the enemy while it is in play.
+     *
+     * @return The handle of the enemy, or {@link EntityRegistry#NONE} if it is not in play.
+     */
+    public int getHandle () {
+        return handle;
+    }
+
+    /**
+     * Gets the name of the enemy type.
+     *
+     * @return The name of the enemy.
+     */
+    public abstract String getName ();
+
+    /**
+     * Gets the current number of hit points of the enemy.
+     *
+     * @return The number of hit points of the enemy.
+     */
+    public abstract int getHitPoints ();
+
+    /**
+     * Gets the size of the enemy.
+     *
+     * @return The size of the enemy.
+     */
+    public abstract int getSize ();
+
+
+    /**
+     * Removes one hit point from the enemy.
+     */
+    public abstract void removeHitPoint ();
+
+}
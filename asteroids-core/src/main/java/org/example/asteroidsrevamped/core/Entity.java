@@ -0,0 +1,118 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Abstract class representing an entity in the game world.
+
+ * This class provides a foundation for all entities in the game, including enemies, and the player.
+ * It only holds simulation state, the front end decides how each entity is drawn.
+ *
+ * @author Jose Silva
+ */
+public abstract class Entity {
+
+    /**
+     * Current simulation state: top-left corner of the entity and rotation in degrees.
+     */
+    protected double x;
+    protected double y;
+    protected double rotation;
+
+    /**
+     * Simulation state at the start of the last step. Blended with the current state when rendering.
+     */
+    protected double previousX;
+    protected double previousY;
+    protected double previousRotation;
+
+    /**
+     * Position of the collision bounds. The center for circular bounds, the top-left corner for the spaceship hull.
+     */
+    protected double boundsX;
+    protected double boundsY;
+
+    Entity() {
+    }
+
+    /**
+     * Gets the x-coordinate of the entity in the current simulation step.
+     *
+     * @return The x-coordinate of the entity.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the y-coordinate of the entity in the current simulation step.
+     *
+     * @return The y-coordinate of the entity.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the rotation of the entity in the current simulation step.
+     *
+     * @return The rotation in degrees.
+     */
+    public double getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the x-coordinate of the entity at the start of the last simulation step.
+     *
+     * @return The previous x-coordinate of the entity.
+     */
+    public double getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * Gets the y-coordinate of the entity at the start of the last simulation step.
+     *
+     * @return The previous y-coordinate of the entity.
+     */
+    public double getPreviousY() {
+        return previousY;
+    }
+
+    /**
+     * Gets the rotation of the entity at the start of the last simulation step.
+     *
+     * @return The previous rotation in degrees.
+     */
+    public double getPreviousRotation() {
+        return previousRotation;
+    }
+
+    /**
+     * Gets the x-coordinate of the entity's collision bounds.
+     *
+     * @return The x-coordinate of the bounds.
+     */
+    public double getBoundsX() {
+        return boundsX;
+    }
+
+    /**
+     * Gets the y-coordinate of the entity's collision bounds.
+     *
+     * @return The y-coordinate of the bounds.
+     */
+    public double getBoundsY() {
+        return boundsY;
+    }
+
+    /**
+     * Stores the current state as the previous state.
+     * Called at the start of every simulation step, and right after teleporting the entity (spawning, wrapping around)
+     * so that rendering does not blend across the jump.
+     */
+    public void savePreviousState() {
+        previousX = x;
+        previousY = y;
+        previousRotation = rotation;
+    }
+}
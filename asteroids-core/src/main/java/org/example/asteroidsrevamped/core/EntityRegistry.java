@@ -0,0 +1,161 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.Arrays;
+
+/**
+ * Hands out generational handles identifying the entities in play in one world, so that a handle kept after its entity
+ * was released is reported as stale. Not thread safe, a registry belongs to the simulation thread of its world.
+ *
+ * @author Jose Silva
+ */
+public class EntityRegistry {
+
+    // Never handed out, stands for "no entity"
+    public static final int NONE = 0;
+
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (Integer.SIZE - SLOT_BITS)) - 1;
+    public static final int MAX_SLOTS = 1 << SLOT_BITS;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Current generation of each slot, starts at 1 so that no handle equals NONE
+    private int[] generations = new int[INITIAL_CAPACITY];
+    // Released slots waiting to be reused, as a stack
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    // Slots handed out at least once
+    private int slotCount;
+    private int aliveCount;
+
+    /**
+     * Creates an empty registry.
+     */
+    public EntityRegistry() {
+    }
+
+    /**
+     * Registers a new entity.
+     *
+     * @return The handle of the entity.
+     * @throws IllegalStateException If every slot is taken.
+     */
+    public int create() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == MAX_SLOTS) {
+                throw new IllegalStateException("No entity slots left");
+            }
+            if (slotCount == generations.length) {
+                generations = Arrays.copyOf(generations, generations.length * 2);
+            }
+            slot = slotCount++;
+            generations[slot] = 1;
+        }
+        aliveCount++;
+        return (generations[slot] << SLOT_BITS) | slot;
+    }
+
+    /**
+     * Releases an entity, making its handle stale and its slot available again.
+     *
+     * @param handle The handle of the entity.
+     * @return False if the handle was already stale.
+     */
+    public boolean release(int handle) {
+        if (!isAlive(handle)) {
+            return false;
+        }
+        int slot = slotOf(handle);
+        int generation = (generations[slot] + 1) & GENERATION_MASK;
+        generations[slot] = generation == 0 ? 1 : generation;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        aliveCount--;
+        return true;
+    }
+
+    /**
+     * Checks whether a handle still refers to a registered entity.
+     *
+     * @param handle The handle to check.
+     * @return True if the entity was not released since the handle was created.
+     */
+    public boolean isAlive(int handle) {
+        int slot = slotOf(handle);
+        return handle != NONE && slot < slotCount && generations[slot] == generationOf(handle);
+    }
+
+    /**
+     * Gets the slot of a handle, to index per-entity arrays.
+     *
+     * @param handle The handle of the entity.
+     * @return The slot index, below {@link #getCapacity()}.
+     */
+    public static int slotOf(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    /**
+     * Gets the generation of a handle.
+     *
+     * @param handle The handle of the entity.
+     * @return The generation of the slot when the handle was created.
+     */
+    public static int generationOf(int handle) {
+        return (handle >>> SLOT_BITS) & GENERATION_MASK;
+    }
+
+    /**
+     * Gets the number of slots the registry holds room for. Per-entity arrays of this length can be indexed by any live
+     * handle, until the registry grows again.
+     *
+     * @return The number of slots handed out or that can be without growing.
+     */
+    public int getCapacity() {
+        return generations.length;
+    }
+
+    /**
+     * Makes room for a number of entities alive at the same time, so that registering them does not grow the registry.
+     *
+     * @param entities The number of entities.
+     */
+    public void ensureCapacity(int entities) {
+        int capacity = Math.min(entities, MAX_SLOTS);
+        if (generations.length < capacity) {
+            generations = Arrays.copyOf(generations, Math.max(capacity, generations.length * 2));
+        }
+        if (freeSlots.length < capacity) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(capacity, freeSlots.length * 2));
+        }
+    }
+
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Releases every entity at once.
+     */
+    public void clear() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            int generation = (generations[slot] + 1) & GENERATION_MASK;
+            generations[slot] = generation == 0 ? 1 : generation;
+        }
+        freeCount = 0;
+        if (freeSlots.length < slotCount) {
+            freeSlots = new int[generations.length];
+        }
+        // Reuse low slots first
+        for (int slot = slotCount - 1; slot >= 0; slot--) {
+            freeSlots[freeCount++] = slot;
+        }
+        aliveCount = 0;
+    }
+}
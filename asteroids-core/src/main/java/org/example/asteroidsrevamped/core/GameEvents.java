@@ -0,0 +1,46 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Things happening in the simulation that the front end may want to react to, typically by playing a sound.
+ * Called on the thread running the simulation. Every method does nothing by default.
+ *
+ * @author Jose Silva
+ */
+public interface GameEvents {
+
+    /**
+     * Ignores every event. Used when the game runs without a front end.
+     */
+    GameEvents NONE = new GameEvents() {
+    };
+
+    /**
+     * Called when the spaceship fires a laser.
+     */
+    default void laserFired() {
+    }
+
+    /**
+     * Called when an asteroid loses its last hit point.
+     */
+    default void asteroidDestroyed() {
+    }
+
+    /**
+     * Called when an asteroid hits the spaceship and takes a life.
+     */
+    default void shipHit() {
+    }
+
+    /**
+     * Called when the last asteroid of a level is gone and the next level starts.
+     */
+    default void levelUp() {
+    }
+
+    /**
+     * Called once, when the player runs out of lives.
+     */
+    default void gameOver() {
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Everything that belongs to one game rather than to the whole process, so that any number of games can run side by
+ * side in one JVM.
+ *
+ * @author Jose Silva
+ */
+public class GameSession {
+
+    public static final String DEFAULT_PLAYER_NAME = "No name";
+
+    private final String playerName;
+    private final GameEvents events;
+    private final AsteroidArchetypes archetypes;
+    // Runs background work such as level planning, or null for the session to start its own thread
+    private final Executor backgroundExecutor;
+
+    // Set by the front end while the game is paused
+    private volatile boolean paused;
+    // Set by the front end to draw the collision bounds
+    private volatile boolean boundsVisible;
+
+    /**
+     * Creates a session with the default asteroid types.
+     *
+     * @param playerName The name the score is saved under.
+     * @param events Notified of what happens in the game.
+     */
+    public GameSession(String playerName, GameEvents events) {
+        this(playerName, events, AsteroidArchetypes.getDefault(), null);
+    }
+
+    /**
+     * Creates a session.
+     *
+     * @param playerName The name the score is saved under.
+     * @param events Notified of what happens in the game.
+     * @param archetypes The asteroid types to spawn.
+     * @param backgroundExecutor Runs background work, shared between sessions, or null to use a thread of its own.
+     */
+    public GameSession(String playerName, GameEvents events, AsteroidArchetypes archetypes, Executor backgroundExecutor) {
+        this.playerName = playerName;
+        this.events = events;
+        this.archetypes = archetypes;
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public GameEvents getEvents() {
+        return events;
+    }
+
+    public AsteroidArchetypes getArchetypes() {
+        return archetypes;
+    }
+
+    public Executor getBackgroundExecutor() {
+        return backgroundExecutor;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public boolean isBoundsVisible() {
+        return boundsVisible;
+    }
+
+    public void setBoundsVisible(boolean boundsVisible) {
+        this.boundsVisible = boundsVisible;
+    }
+}
@@ -0,0 +1,416 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.Arrays;
+
+/**
+ * The whole game simulation: the player, the asteroids, the level progression, collisions, and the clock driving them.
+ * A world knows nothing about how it is displayed.
+ *
+ * @author Jose Silva
+ */
+public class GameWorld {
+
+    public static final double WIDTH = 1080;
+    public static final double HEIGHT = 800;
+
+    // Simulation seconds an asteroid has to wait before it can hit the ship again
+    private static final double HIT_COOLDOWN = 1.0;
+
+    // Virtual clock advanced only by the simulation steps
+    private final SimulationClock clock = new SimulationClock();
+    // Runs the delayed and periodic game events (spawns, reloads, cooldowns) against the clock
+    private final TimerWheel timers = new TimerWheel(clock);
+
+    // Hands out the handles of the entities in play
+    private final EntityRegistry registry = new EntityRegistry();
+
+    private final GameSession session;
+    private final GameEvents events;
+    private final Player player;
+    private final LevelController levelController;
+    // Rolls the next level in the background while the current one is played
+    private final LevelPlanner levelPlanner;
+    private final AsteroidPool asteroidPool;
+    // Broadphase of the collision checks, rebuilt every step
+    private final SpatialGrid grid;
+    // Bounces the asteroids off each other once the lasers and the ship were tested against them
+    private final AsteroidCollisions asteroidCollisions;
+    // Laser hits found during the current collision check, kept in order of when they happened during the step
+    private Laser[] hitLasers = new Laser[0];
+    private int[] hitRows = new int[0];
+    private double[] hitTimes = new double[0];
+    private int hitCount;
+    // Rows of the asteroids destroyed during the current collision check, removed once it is over
+    private int[] destroyedRows = new int[0];
+    private int destroyedCount;
+    // Per registry slot: the asteroid that last hit the ship, and the time until which it can't hit it again
+    private int[] shipHitHandles = new int[0];
+    private double[] shipHitCooldownEnds = new double[0];
+
+    // Set when the player runs out of lives, the world stops stepping from then on
+    private volatile boolean gameOver;
+    // Cleared by the front end to stop rotating asteroids nobody can see
+    private volatile boolean offscreenRotation = true;
+
+    /**
+     * Creates a world at level 1 for an anonymous player.
+     *
+     * @param events Notified of what happens in the world.
+     */
+    public GameWorld(GameEvents events) {
+        this(new GameSession(GameSession.DEFAULT_PLAYER_NAME, events));
+    }
+
+    /**
+     * Creates the world of a game session, at level 1.
+     *
+     * @param session The game the world belongs to.
+     */
+    public GameWorld(GameSession session) {
+        this.session = session;
+        this.events = session.getEvents();
+        this.player = new Player(session, timers);
+        this.levelPlanner = new LevelPlanner(session);
+        LevelPlan firstLevel = levelPlanner.plan(1);
+        this.levelController = new LevelController(firstLevel);
+        this.asteroidPool = new AsteroidPool(session, timers, registry);
+        double largestAsteroid = getLargestAsteroidSize(session.getArchetypes());
+        this.grid = new SpatialGrid(WIDTH, HEIGHT, largestAsteroid);
+        this.asteroidCollisions = new AsteroidCollisions(WIDTH, HEIGHT, largestAsteroid);
+        asteroidPool.startLevel(firstLevel);
+        levelPlanner.prepare(2);
+    }
+
+    /**
+     * Starts the game over at level 1, reusing the player, the pools and the asteroids of this world instead of
+     * building a new one. Must not run while another thread is stepping the world.
+     * <p>
+     * The clock keeps running: everything scheduled on it is measured from the current time.
+     */
+    public void reset() {
+        // Drop pending spawns, reloads and cooldowns, the pools schedule what they need again
+        timers.clear();
+        levelPlanner.cancel();
+        player.reset();
+        LevelPlan firstLevel = levelPlanner.plan(1);
+        levelController.levelUp(firstLevel);
+        // Takes every asteroid out of play and back to its pool before refilling
+        asteroidPool.startLevel(firstLevel);
+        levelPlanner.prepare(2);
+        Arrays.fill(shipHitHandles, EntityRegistry.NONE);
+        gameOver = false;
+    }
+
+    /**
+     * Advances the world by one fixed step.
+     *
+     * @param deltaTime The length of the step, in seconds.
+     */
+    public void step(double deltaTime) {
+        if (gameOver) {
+            return;
+        }
+        clock.advance(deltaTime);
+        checkGameOver();
+        timers.advance();
+        asteroidPool.updateAsteroids(deltaTime, offscreenRotation);
+        player.shoot(events);
+        player.getSpaceship().updatePosition(deltaTime);
+        player.updateLasers(deltaTime);
+        checkCollisions(deltaTime);
+        // After the lasers: their sweep follows each asteroid back along its velocity, which must still be the one
+        // it moved with during this step
+        asteroidCollisions.resolve(asteroidPool.getActiveAsteroids());
+        levelUp();
+    }
+
+    /**
+     * Copies the current world state into a snapshot.
+     *
+     * @param snapshot The snapshot to fill.
+     */
+    public void capture(WorldSnapshot snapshot) {
+        Spaceship spaceship = player.getSpaceship();
+        snapshot.clear();
+        asteroidPool.getActiveAsteroids().capture(snapshot);
+        LaserPool laserPool = spaceship.getLaserPool();
+        for (int i = 0; i < laserPool.getActiveCount(); i++) {
+            snapshot.addEntity(laserPool.getActiveLaser(i), 0);
+        }
+        snapshot.addEntity(spaceship, 0);
+        snapshot.setHud(player.getScore(), player.getLives(), levelController.getLevel(),
+                spaceship.getLaserPool().getAmmunition(), gameOver);
+    }
+
+    /**
+     * Ends the game once the player runs out of lives.
+     */
+    private void checkGameOver() {
+        if (player.getLives() <= 0) {
+            gameOver = true;
+            events.gameOver();
+        }
+    }
+
+    /**
+     * Update level modifiers and refill the asteroid pool with the next level, planned ahead of time.
+     */
+    private void levelUp() {
+        if (asteroidPool.getActiveAsteroids().isEmpty() && asteroidPool.getPool().isEmpty()) {
+
+            // Built while the level that just ended was played
+            LevelPlan next = levelPlanner.take(levelController.getLevel() + 1);
+            levelController.levelUp(next);
+            events.levelUp();
+            // Refill the asteroid pool with the new distribution, reusing the destroyed asteroids
+            asteroidPool.startLevel(next);
+            levelPlanner.prepare(next.getLevel() + 1);
+        }
+    }
+
+    /**
+     * Tests the lasers and the ship against the asteroids close to them, found with the grid.
+     * Asteroids destroyed on the way stay in the field until every test is done, so that rows don't move meanwhile.
+     * <p>
+     * Lasers are tested along the whole path they swept during the step, so they can't fly through an asteroid between
+     * two steps whatever the tick rate. Each laser stops at the first asteroid on its path, and the hits are applied in
+     * the order they happened: when two lasers reach the last hit point of an asteroid, the earlier one destroys it and
+     * the other flies on to whatever is behind.
+     *
+     * @param deltaTime The length of the step, in seconds.
+     */
+    private void checkCollisions(double deltaTime) {
+        Spaceship spaceship = player.getSpaceship();
+        AsteroidField asteroids = asteroidPool.getActiveAsteroids();
+        grid.build(asteroids);
+        // Sized on what the field, the registry and the laser pool hold room for, which only grows when a level starts
+        // (the field makes room for the whole level), rather than on what is in play. A step in the middle of a level
+        // then never grows them, however many asteroids and lasers are around
+        if (destroyedRows.length < asteroids.getCapacity()) {
+            destroyedRows = new int[asteroids.getCapacity()];
+        }
+        if (shipHitHandles.length < registry.getCapacity()) {
+            shipHitHandles = Arrays.copyOf(shipHitHandles, registry.getCapacity());
+            shipHitCooldownEnds = Arrays.copyOf(shipHitCooldownEnds, registry.getCapacity());
+        }
+        destroyedCount = 0;
+
+        LaserPool laserPool = spaceship.getLaserPool();
+        int lasers = laserPool.getActiveCount();
+        if (hitLasers.length < laserPool.getCapacity()) {
+            hitLasers = new Laser[laserPool.getCapacity()];
+            hitRows = new int[laserPool.getCapacity()];
+            hitTimes = new double[laserPool.getCapacity()];
+        }
+        hitCount = 0;
+        for (int l = 0; l < lasers; l++) {
+            Laser laser = laserPool.getActiveLaser(l);
+            if (findLaserHit(laser, asteroids, deltaTime, hitCount)) {
+                insertLaserHit(hitCount++);
+            }
+        }
+
+        for (int h = 0; h < hitCount; h++) {
+            Laser laser = hitLasers[h];
+            int i = hitRows[h];
+            // Destroyed by an earlier laser during this step: look for what is behind it. Asteroids only lose hit
+            // points, so the next hit can't be earlier than this one and goes somewhere among the hits left
+            if (asteroids.getHitPoints(i) <= 0) {
+                if (findLaserHit(laser, asteroids, deltaTime, h)) {
+                    insertLaserHit(h);
+                    h--;
+                }
+                continue;
+            }
+            if (asteroids.removeHitPoint(i) == 0) {
+                events.asteroidDestroyed();
+                destroyedRows[destroyedCount++] = i;
+            }
+            laser.resetDistanceTraveled();
+            laserPool.deactivateLaser(laser);
+            player.increaseScore(asteroids.getAsteroid(i).getScore());
+        }
+        Arrays.fill(hitLasers, 0, hitCount, null);
+
+        // The hull fits in a circle around its pivot
+        int candidates = grid.query(spaceship.getBoundsX() + SpaceshipHull.getPivotX(),
+                spaceship.getBoundsY() + SpaceshipHull.getPivotY(), SpaceshipHull.getReach());
+        for (int c = 0; c < candidates; c++) {
+            int i = grid.getCandidate(c);
+            // Only the first hit of an asteroid counts until its cooldown runs out
+            int handle = asteroids.getHandle(i);
+            if (!isHitCoolingDown(handle) && CollisionDetector.didShipCollide(spaceship, asteroids, i)) {
+                events.shipHit();
+                startHitCooldown(handle);
+                player.removeLife();
+            }
+        }
+
+        // The last asteroid moves into each removed row, so remove the highest rows first
+        Arrays.sort(destroyedRows, 0, destroyedCount);
+        for (int k = destroyedCount - 1; k >= 0; k--) {
+            asteroidPool.destroyAsteroid(destroyedRows[k]);
+        }
+        // Lasers that hit something stopped flying
+        laserPool.removeStoppedLasers();
+    }
+
+    /**
+     * Finds the first asteroid still in play on the path a laser swept during the step, and stores the hit.
+     *
+     * @param laser The laser to test.
+     * @param asteroids The asteroids in play, already sorted into the grid.
+     * @param deltaTime The length of the step, in seconds.
+     * @param h Where to store the hit.
+     * @return True if the laser hit an asteroid.
+     */
+    private boolean findLaserHit(Laser laser, AsteroidField asteroids, double deltaTime, int h) {
+        // Around the middle of the laser's path, far enough to reach the asteroids wherever they were during the step
+        double velocityX = laser.getVelocityX();
+        double velocityY = laser.getVelocityY();
+        double halfPath = Math.hypot(velocityX, velocityY) * deltaTime / 2;
+        int candidates = grid.queryPacked(laser.getBoundsX() - velocityX * deltaTime / 2,
+                laser.getBoundsY() - velocityY * deltaTime / 2,
+                halfPath + grid.getMaxSpeed() * deltaTime + laser.getRadius());
+
+        int firstRow = -1;
+        double firstTime = Double.MAX_VALUE;
+        for (int from = 0; from < candidates; from += LaserNarrowphase.BLOCK_SIZE) {
+            int count = Math.min(LaserNarrowphase.BLOCK_SIZE, candidates - from);
+            // Only work out when the laser hit the few candidates it hit at all
+            long hits = CollisionDetector.laserHitMask(grid, from, count, laser, deltaTime);
+            while (hits != 0) {
+                int i = grid.getCandidate(from + Long.numberOfTrailingZeros(hits));
+                hits &= hits - 1;
+                // Already destroyed by another laser during this step
+                if (asteroids.getHitPoints(i) <= 0) {
+                    continue;
+                }
+                double time = CollisionDetector.laserSpriteHitTime(asteroids, i, laser, deltaTime);
+                if (time != CollisionDetector.NO_HIT && time < firstTime) {
+                    firstRow = i;
+                    firstTime = time;
+                }
+            }
+        }
+        if (firstRow < 0) {
+            return false;
+        }
+        hitLasers[h] = laser;
+        hitRows[h] = firstRow;
+        hitTimes[h] = firstTime;
+        return true;
+    }
+
+    /**
+     * Moves a hit among the hits found so far until they are in order of time again.
+     *
+     * @param h The hit to move. Every other hit must already be in order.
+     */
+    private void insertLaserHit(int h) {
+        Laser laser = hitLasers[h];
+        int row = hitRows[h];
+        double time = hitTimes[h];
+        int k = h;
+        while (k > 0 && hitTimes[k - 1] > time) {
+            moveLaserHit(k - 1, k);
+            k--;
+        }
+        while (k + 1 < hitCount && hitTimes[k + 1] < time) {
+            moveLaserHit(k + 1, k);
+            k++;
+        }
+        hitLasers[k] = laser;
+        hitRows[k] = row;
+        hitTimes[k] = time;
+    }
+
+    private void moveLaserHit(int from, int to) {
+        hitLasers[to] = hitLasers[from];
+        hitRows[to] = hitRows[from];
+        hitTimes[to] = hitTimes[from];
+    }
+
+    private static double getLargestAsteroidSize(AsteroidArchetypes archetypes) {
+        double size = 0;
+        for (int i = 0; i < archetypes.size(); i++) {
+            size = Math.max(size, archetypes.get(i).getSize());
+        }
+        return size;
+    }
+
+    /**
+     * Checks whether an asteroid hit the ship too recently to hit it again.
+     *
+     * @param handle The handle of the asteroid.
+     * @return True if the asteroid is still cooling down.
+     */
+    private boolean isHitCoolingDown(int handle) {
+        int slot = EntityRegistry.slotOf(handle);
+        // A slot reused by another asteroid keeps the old handle, which no longer matches
+        return shipHitHandles[slot] == handle && clock.getTime() < shipHitCooldownEnds[slot];
+    }
+
+    /**
+     * Prevents an asteroid from hitting the ship again for {@link #HIT_COOLDOWN} seconds.
+     *
+     * @param handle The handle of the asteroid.
+     */
+    private void startHitCooldown(int handle) {
+        int slot = EntityRegistry.slotOf(handle);
+        shipHitHandles[slot] = handle;
+        shipHitCooldownEnds[slot] = clock.getTime() + HIT_COOLDOWN;
+    }
+
+    /**
+     * Allows or prevents rotating the asteroids that are outside the screen.
+     *
+     * @param offscreenRotation False to skip rotating off-screen asteroids.
+     */
+    public void setOffscreenRotation(boolean offscreenRotation) {
+        this.offscreenRotation = offscreenRotation;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public LevelController getLevelController() {
+        return levelController;
+    }
+
+    public AsteroidPool getAsteroidPool() {
+        return asteroidPool;
+    }
+
+    public GameSession getSession() {
+        return session;
+    }
+
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    public EntityRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Clean resources once the game is closed.
+     */
+    public void cleanup() {
+        // Drop pending game events
+        timers.clear();
+        player.cleanup();
+        asteroidPool.cleanup();
+        levelPlanner.cleanup();
+        registry.clear();
+        Arrays.fill(shipHitHandles, EntityRegistry.NONE);
+
+        System.out.println("GameWorld cleanup complete");
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.asteroidsrevamped.core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Runs the game without a display, as fast as the machine allows, with a scripted ship that keeps turning and firing.
+ *
+ * @author Jose Silva
+ */
+public final class HeadlessGame {
+
+    private static final int DEFAULT_TICKS = 100_000;
+    private static final double NANOS_TO_SECONDS = 1.0 / 1_000_000_000.0;
+
+    private HeadlessGame() {
+    }
+
+    /**
+     * Plays the game and prints how far it got and how fast it ran.
+     *
+     * @param args The number of ticks (100000 by default), the tick rate in Hz (240 by default), and a file to
+     *             export every tick to for {@link WorldExportReader} (none by default).
+     */
+    public static void main(String[] args) throws IOException {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICKS;
+        TickRate tickRate = args.length > 1 ? TickRate.fromHertz(Integer.parseInt(args[1])) : TickRate.HZ_240;
+
+        GameWorld world = new GameWorld(GameEvents.NONE);
+        WorldSnapshot snapshot = new WorldSnapshot();
+        WorldExporter exporter = args.length > 2
+                ? new WorldExporter(Path.of(args[2]), WorldExporter.DEFAULT_CAPACITY) : null;
+        Player player = world.getPlayer();
+        player.getSpaceship().rotateRight();
+
+        long start = System.nanoTime();
+        int tick = 0;
+        while (tick < ticks && !world.isGameOver()) {
+            player.requestShot();
+            world.step(tickRate.getTimeStep());
+            world.capture(snapshot);
+            if (exporter != null) {
+                exporter.export(snapshot, world.getClock().getTime());
+            }
+            tick++;
+        }
+        double seconds = (System.nanoTime() - start) * NANOS_TO_SECONDS;
+
+        System.out.printf("Ran %d ticks at %dHz (%.1f simulated seconds) in %.3f real seconds, %.0f ticks per second%n",
+                tick, tickRate.getHertz(), world.getClock().getTime(), seconds, tick / seconds);
+        System.out.printf("Level %d, score %d, lives %d%s%n", snapshot.getLevel(), snapshot.getScore(),
+                snapshot.getLives(), world.isGameOver() ? ", game over" : "");
+        world.cleanup();
+        if (exporter != null) {
+            exporter.cleanup();
+        }
+    }
+}
@@ -1,12 +1,6 @@
-package org.example.asteroidsrevamped;
+package org.example.asteroidsrevamped.core;
 
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.shape.Circle;
-
-import java.util.Objects;
-
 /**
  * This class represents a laser fired by the player's spaceship.
  *
@@ -14,29 +8,34 @@ import java.util.Objects;
  */
 public class Laser extends Entity {
 
-    private static final Image LASER_IMAGE = new Image(Objects.requireNonNull(Laser.class.getResourceAsStream("/images/laser.png")));
-    private static final int LASER_WIDTH = 20;
-    private static final int LASER_HEIGHT = 10;
+    public static final int LASER_WIDTH = 20;
+    public static final int LASER_HEIGHT = 10;
     private static final int LASER_SPEED = 2500;
+    // Radius of the circular collision bounds
+    private static final double RADIUS = (float)LASER_HEIGHT/3;
     private double boundX;
     private double boundY;
-    private double initialRotation;
     private double distanceTraveled = 0;
+    // Velocity in pixels per second, worked out once from the rotation the laser was fired with
+    private double velocityX;
+    private double velocityY;
+    // Set while the laser is flying, cleared once it hit something or flew its whole range
+    private boolean flying;
 
     public Laser() {
-        this.view = new ImageView(LASER_IMAGE);
-        this.view.setFitWidth(LASER_WIDTH);
-        this.view.setFitHeight(LASER_HEIGHT);
-        this.bounds = new Circle(view.getX(),view.getY(),(float)LASER_HEIGHT/3);
     }
 
     /**
-     * Gets the rotation of the laser.
+     * Checks whether the laser is still flying.
      *
-     * @return The laser's rotation.
+     * @return True from the moment the laser is fired until it stops.
      */
-    public double getRotation() {
-        return initialRotation;
+    public boolean isFlying() {
+        return flying;
+    }
+
+    void setFlying(boolean flying) {
+        this.flying = flying;
     }
 
     /**
@@ -83,19 +82,33 @@ public class Laser extends Entity {
     }
 
     /**
-     * Sets the rotation of the laser.
+     * Sets the rotation of the laser, and the velocity it flies with in that direction.
      *
      * @param rotation The new rotation of the laser.
      */
     public void setRotation(double rotation) {
-        initialRotation = rotation;
-        view.setRotate(rotation);
+        this.rotation = rotation;
+        double angleInRadians = Math.toRadians(rotation);
+        velocityX = Math.cos(angleInRadians) * LASER_SPEED;
+        velocityY = Math.sin(angleInRadians) * LASER_SPEED;
+    }
+
+    public double getVelocityX() {
+        return velocityX;
+    }
+
+    public double getVelocityY() {
+        return velocityY;
     }
 
     public int getLaserSpeed() {
         return LASER_SPEED;
     }
 
+    public double getRadius() {
+        return RADIUS;
+    }
+
     /**
      * Sets the position of the laser and its bounding circle.
      *
@@ -105,11 +118,11 @@ public class Laser extends Entity {
      * @param laserY The y-coordinate of the laser's center within the spaceship.
      */
     public void setPosition(double x, double y, double laserX, double laserY) {
-        view.setX(x);
-        view.setY(y);
+        this.x = x;
+        this.y = y;
         boundX = laserX;
         boundY = laserY;
-        bounds.setLayoutX(laserX);
-        bounds.setLayoutY(laserY+ (float)LASER_HEIGHT/2);
+        boundsX = laserX;
+        boundsY = laserY+ (float)LASER_HEIGHT/2;
     }
 }
@@ -0,0 +1,147 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Tests one laser against a block of asteroid candidates packed by {@link SpatialGrid#queryPacked}, all at once, and
+ * gives a bitmask of the candidates it hit during the step ({@code -Dasteroids.vectorNarrowphase=false} forces scalar).
+ *
+ * @author Jose Silva
+ */
+public abstract class LaserNarrowphase {
+
+    /**
+     * Largest number of candidates tested at once, one bit each in the mask.
+     */
+    public static final int BLOCK_SIZE = Long.SIZE;
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_PROPERTY = "asteroids.vectorNarrowphase";
+
+    private static final LaserNarrowphase SCALAR = new Scalar();
+    // Loaded on first use, only when the incubator module is present
+    private static LaserNarrowphase vector;
+    private static boolean vectorLoaded;
+
+    LaserNarrowphase() {
+    }
+
+    /**
+     * Gets the fastest implementation this JVM can run, unless told to use the scalar loop.
+     *
+     * @return The vector implementation if available, the scalar one otherwise.
+     */
+    public static LaserNarrowphase getDefault() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+            return SCALAR;
+        }
+        LaserNarrowphase vectorNarrowphase = vector();
+        return vectorNarrowphase != null ? vectorNarrowphase : SCALAR;
+    }
+
+    public static LaserNarrowphase scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Gets the implementation using the Vector API.
+     *
+     * @return The vector implementation, or null if the JVM was started without the incubator module.
+     */
+    public static synchronized LaserNarrowphase vector() {
+        if (!vectorLoaded) {
+            vectorLoaded = true;
+            // Only touch the vector classes once the module is known to be there
+            if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+                try {
+                    vector = new VectorLaserNarrowphase();
+                } catch (LinkageError e) {
+                    System.out.println("Vector API unavailable, using scalar laser narrowphase: " + e);
+                }
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Gets the name of the implementation, as shown in logs and benchmarks.
+     *
+     * @return The name of the implementation.
+     */
+    public abstract String getName();
+
+    /**
+     * Tests a laser against a block of the candidates found by the last packed query of a grid.
+     *
+     * @param grid The grid holding the packed candidates.
+     * @param from The first candidate of the block.
+     * @param count The number of candidates in the block, at most {@link #BLOCK_SIZE}.
+     * @param laser The laser, at the end of the step.
+     * @param deltaTime The length of the step, in seconds.
+     * @return A mask with bit k set if the laser hit candidate from + k during the step.
+     */
+    public long hitMask(SpatialGrid grid, int from, int count, Laser laser, double deltaTime) {
+        return hitMask(grid.candidateCentersX, grid.candidateCentersY, grid.candidateRadii,
+                grid.candidateVelocitiesX, grid.candidateVelocitiesY, from, Math.min(count, BLOCK_SIZE),
+                laser.getBoundsX(), laser.getBoundsY(), laser.getVelocityX() * deltaTime,
+                laser.getVelocityY() * deltaTime, laser.getRadius(), deltaTime);
+    }
+
+    /**
+     * Tests a laser against packed asteroids, the laser's displacement during the step being the same for all.
+     */
+    abstract long hitMask(double[] centersX, double[] centersY, double[] radii, double[] velocitiesX,
+                          double[] velocitiesY, int from, int count, double laserX, double laserY,
+                          double laserMoveX, double laserMoveY, double laserRadius, double deltaTime);
+
+    /**
+     * Tests the asteroids one by one, from a given lane of the block to the last.
+     * The whole block of the scalar implementation, and the remainder of the vector one.
+     */
+    static long hitMaskScalar(double[] centersX, double[] centersY, double[] radii, double[] velocitiesX,
+                              double[] velocitiesY, int from, int firstLane, int count, double laserX, double laserY,
+                              double laserMoveX, double laserMoveY, double laserRadius, double deltaTime) {
+        long mask = 0;
+        for (int k = firstLane; k < count; k++) {
+            int i = from + k;
+            // The laser's path in the asteroid's frame, from start to end
+            double endX = laserX - centersX[i];
+            double endY = laserY - centersY[i];
+            double moveX = laserMoveX - velocitiesX[i] * deltaTime;
+            double moveY = laserMoveY - velocitiesY[i] * deltaTime;
+            double startX = endX - moveX;
+            double startY = endY - moveY;
+            double reach = radii[i] + laserRadius;
+            double reachSquared = reach * reach;
+
+            double a = moveX * moveX + moveY * moveY;
+            double b = startX * moveX + startY * moveY;
+            double startSquared = startX * startX + startY * startY;
+            double endSquared = endX * endX + endY * endY;
+            // Either end within reach, or the closest point between them, |start|^2 - b^2 / a, times a
+            boolean hit = startSquared <= reachSquared || endSquared <= reachSquared
+                    || (b < 0 && a + b > 0 && a * startSquared - b * b <= a * reachSquared);
+            if (hit) {
+                mask |= 1L << k;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * One asteroid at a time, on any JVM.
+     */
+    private static final class Scalar extends LaserNarrowphase {
+
+        @Override
+        public String getName() {
+            return "scalar";
+        }
+
+        @Override
+        long hitMask(double[] centersX, double[] centersY, double[] radii, double[] velocitiesX,
+                     double[] velocitiesY, int from, int count, double laserX, double laserY,
+                     double laserMoveX, double laserMoveY, double laserRadius, double deltaTime) {
+            return hitMaskScalar(centersX, centersY, radii, velocitiesX, velocitiesY, from, 0, count, laserX, laserY,
+                    laserMoveX, laserMoveY, laserRadius, deltaTime);
+        }
+    }
+}
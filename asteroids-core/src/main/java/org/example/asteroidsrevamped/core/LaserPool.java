@@ -0,0 +1,200 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * This class manages a pool of Laser objects for efficient reuse.
+ *
+ * @author Jose Silva
+ */
+public class LaserPool {
+
+    private static final int MAX_POOL_SIZE = 10;
+    // Simulation seconds between each reloaded laser
+    private static final double RELOAD_INTERVAL = 0.5;
+    // used to store available lasers. The ship can't fire more than the pool holds, so it never grows
+    private final ObjectPool<Laser> pool;
+    // used to store lasers that are currently flying, in the order they were fired
+    private final Laser[] activeLasers = new Laser[MAX_POOL_SIZE];
+    private int activeCount;
+    // used to store lasers that stopped flying and are waiting to be reloaded
+    private final Deque<Laser> inactiveLasers = new ArrayDeque<>();
+
+    private final TimerWheel timers;
+    // Pending reload, only scheduled while there are inactive lasers
+    private TimerWheel.Timer reloadTimer;
+    private double previousReloadTime = -RELOAD_INTERVAL;
+
+    /**
+     * Constructs a new LaserPool and initializes it with a pool of lasers.
+     *
+     * @param timers The timer wheel used to time reloads.
+     */
+    public LaserPool(TimerWheel timers) {
+        this.timers = timers;
+        SimulationClock clock = timers.getClock();
+        this.pool = new ObjectPool<>("Laser", Laser::new, MAX_POOL_SIZE, MAX_POOL_SIZE,
+                ObjectPool.GrowthPolicy.FIXED, clock::getTime);
+    }
+
+    /**
+     * Retrieves a laser from the pool.
+     *
+     * @return A laser object from the pool, or null if the pool is empty.
+     */
+    public Laser getLaser() {
+        Laser laser = pool.acquire();
+        if (laser != null) {
+            activeLasers[activeCount++] = laser;
+            laser.setFlying(true);
+        }
+        return laser;
+    }
+
+    /**
+     * Stops a laser that flew its whole range or hit something, and queues it to be reloaded.
+     * It stays among the active lasers, so they can still be walked by index, until {@link #removeStoppedLasers()}.
+     *
+     * @param laser The laser to reload.
+     */
+    public void deactivateLaser(Laser laser) {
+        laser.setFlying(false);
+        inactiveLasers.offer(laser);
+        scheduleReload();
+    }
+
+    /**
+     * Removes every stopped laser from the active lasers in a single sweep, keeping the others in order.
+     */
+    public void removeStoppedLasers() {
+        int kept = 0;
+        for (int i = 0; i < activeCount; i++) {
+            Laser laser = activeLasers[i];
+            if (laser.isFlying()) {
+                activeLasers[kept++] = laser;
+            }
+        }
+        Arrays.fill(activeLasers, kept, activeCount, null);
+        activeCount = kept;
+    }
+
+    /**
+     * Schedules the next reload, unless one is already pending or there is nothing to reload.
+     * Reloads stay at least RELOAD_INTERVAL apart.
+     */
+    private void scheduleReload() {
+        if (!inactiveLasers.isEmpty() && (reloadTimer == null || !reloadTimer.isScheduled())) {
+            double delay = previousReloadTime + RELOAD_INTERVAL - timers.getClock().getTime();
+            // The same timer is reused for every reload
+            if (reloadTimer == null) {
+                reloadTimer = timers.schedule(delay, this::reloadLaser);
+            } else {
+                timers.restart(reloadTimer, delay);
+            }
+        }
+    }
+
+    /**
+     * Moves a laser from the inactive queue back to the pool.
+     */
+    private void reloadLaser() {
+        Laser laser = inactiveLasers.poll();
+        if (laser != null) {
+            pool.release(laser);
+            previousReloadTime = timers.getClock().getTime();
+        }
+        scheduleReload();
+    }
+
+    /**
+     * Gets the share of lasers ready to be fired.
+     *
+     * @return The number of lasers in the pool over the pool size, from 0 to 1.
+     */
+    public double getAmmunition() {
+        return (double) pool.getAvailable() / pool.getMaxSize();
+    }
+
+    /**
+     * Gets the most lasers that can be active at once.
+     *
+     * @return The size of the pool.
+     */
+    public int getCapacity() {
+        return MAX_POOL_SIZE;
+    }
+
+    /**
+     * Gets the number of active lasers, including those stopped since the last {@link #removeStoppedLasers()}.
+     *
+     * @return The number of active lasers.
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Gets an active laser.
+     *
+     * @param i The index of the laser, below {@link #getActiveCount()}. Lower indices were fired earlier.
+     * @return The active laser.
+     */
+    public Laser getActiveLaser(int i) {
+        return activeLasers[i];
+    }
+
+    /**
+     * Gets the queue of inactive lasers.
+     *
+     * @return The queue of inactive lasers.
+     */
+    public Deque<Laser> getInactiveLasers() {
+        return inactiveLasers;
+    }
+
+    /**
+     * Gets the pool the lasers are taken from, with its usage counters.
+     * A laser counts as in use from the moment it is fired until it is reloaded.
+     *
+     * @return The laser pool.
+     */
+    public ObjectPool<Laser> getPool() {
+        return pool;
+    }
+
+    /**
+     * Cleans up the laser pool by emptying all queues.
+     */
+    public void reset() {
+        timers.cancel(reloadTimer);
+        // Every laser goes back to the pool, flying or waiting to be reloaded. Between steps a laser is never both
+        for (int i = 0; i < activeCount; i++) {
+            Laser laser = activeLasers[i];
+            laser.setFlying(false);
+            laser.resetDistanceTraveled();
+            pool.release(laser);
+        }
+        Arrays.fill(activeLasers, 0, activeCount, null);
+        activeCount = 0;
+        Laser laser;
+        while ((laser = inactiveLasers.poll()) != null) {
+            pool.release(laser);
+        }
+        previousReloadTime = timers.getClock().getTime() - RELOAD_INTERVAL;
+    }
+
+    public void cleanup() {
+        timers.cancel(reloadTimer);
+        reloadTimer = null;
+        System.out.println(pool);
+        // Empty active lasers
+        Arrays.fill(activeLasers, 0, activeCount, null);
+        activeCount = 0;
+        // Empty inactive lasers
+        inactiveLasers.clear();
+
+        System.out.println("LaserPool cleanup complete");
+    }
+}
\ No newline at end of file
@@ -1,11 +1,11 @@
-package org.example.asteroidsrevamped;
+package org.example.asteroidsrevamped.core;
 
 /**
  * This class manages the difficulty and enemy distribution for each level.
  *
  * @author Jose Silva
  */
-public class LevelController {
+public final class LevelController {
 
     /**
      * Current level.
@@ -28,12 +28,12 @@ public class LevelController {
     private int enemyType3;
 
     /**
-     * Constructs a new LevelController, initializing it to level 1 with a default pool size.
+     * Constructs a new LevelController, initializing it to the first level.
+     *
+     * @param first The plan of level 1.
      */
-    public LevelController() {
-        this.level = 1;
-        this.poolSize = 10;
-        calculateEnemyDistribution(level, poolSize);
+    public LevelController(LevelPlan first) {
+        levelUp(first);
     }
 
     /**
@@ -46,12 +46,24 @@ public class LevelController {
     }
 
     /**
-     * Calculates the distribution of enemy types based on the current level and pool size.
+     * Gets the total number of enemies of a level. The pool starts at 10 enemies and grows by 2 each level.
      *
-     * @param level   The current level.
+     * @param level The level.
+     * @return The number of enemies in the level.
+     */
+    public static int getPoolSize(int level) {
+        return 10 + (level - 1) * 2;
+    }
+
+    /**
+     * Calculates the distribution of enemy types based on the level and pool size.
+     * Doesn't depend on the state of any controller, so the next level can be prepared ahead of time on any thread.
+     *
+     * @param level   The level.
      * @param poolSize The total number of enemies in the pool.
+     * @return The number of easy, medium and hard enemies, in that order.
      */
-    private void calculateEnemyDistribution(int level, int poolSize) {
+    public static int[] calculateEnemyDistribution(int level, int poolSize) {
         double p1, p2; // Probabilities for easy and medium enemies
 
         if (level == 1) {
@@ -84,31 +96,22 @@ public class LevelController {
         int e2 = (int) Math.round(p2 * poolSize);
         int e3 = poolSize - (e1 + e2); // Hard enemies are the remainder
 
-        // Store the distribution
-        enemyType1 = e1;
-        enemyType2 = e2;
-        enemyType3 = e3;
-
-        // Debug output
-        System.out.printf("Level %d - Easy: %.1f%% (%d), Medium: %.1f%% (%d), Hard: %.1f%% (%d)%n",
-                level,
-                ((double)e1 / poolSize) * 100, e1,
-                ((double)e2 / poolSize) * 100, e2,
-                ((double)e3 / poolSize) * 100, e3);
+        return new int[] {e1, e2, e3};
     }
 
     /**
-     * Increments the level, updates enemy attributes, and plays a level up sound.
+     * Moves on to a level prepared ahead of time.
+     *
+     * @param next The plan of the next level.
      */
-    public void levelUp() {
-        // Update asteroid attributes
-        poolSize += 2;
+    public void levelUp(LevelPlan next) {
         // Update level
-        level++;
+        level = next.getLevel();
         // Update enemy types
-        calculateEnemyDistribution(level, poolSize);
-        // Play level up sound
-        SoundPool.playLevelUpClip();
+        poolSize = next.getAsteroidCount();
+        enemyType1 = next.getEnemyType1();
+        enemyType2 = next.getEnemyType2();
+        enemyType3 = next.getEnemyType3();
     }
 
     /**
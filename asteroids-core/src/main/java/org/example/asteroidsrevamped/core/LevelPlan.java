@@ -0,0 +1,86 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Everything random about a level, decided before the level starts, usually on a worker thread.
+ * Never changes once built, so the simulation can pick one up from any thread.
+ *
+ * @author Jose Silva
+ */
+public final class LevelPlan {
+
+    private final int level;
+    private final int enemyType1;
+    private final int enemyType2;
+    private final int enemyType3;
+    // Spawn order: archetype index and velocity of each asteroid
+    private final int[] archetypes;
+    private final double[] velocityX;
+    private final double[] velocityY;
+    // Number of asteroids of each type, by archetype index
+    private final int[] typeCounts;
+
+    LevelPlan(int level, int enemyType1, int enemyType2, int enemyType3, int[] archetypes, double[] velocityX,
+              double[] velocityY, int[] typeCounts) {
+        this.level = level;
+        this.enemyType1 = enemyType1;
+        this.enemyType2 = enemyType2;
+        this.enemyType3 = enemyType3;
+        this.archetypes = archetypes;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.typeCounts = typeCounts;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getEnemyType1() {
+        return enemyType1;
+    }
+
+    public int getEnemyType2() {
+        return enemyType2;
+    }
+
+    public int getEnemyType3() {
+        return enemyType3;
+    }
+
+    /**
+     * Gets the number of asteroids spawned during the level.
+     *
+     * @return The number of asteroids.
+     */
+    public int getAsteroidCount() {
+        return archetypes.length;
+    }
+
+    /**
+     * Gets the type of an asteroid.
+     *
+     * @param i The position of the asteroid in the spawn order.
+     * @return The archetype index of the asteroid.
+     */
+    public int getArchetype(int i) {
+        return archetypes[i];
+    }
+
+    public double getVelocityX(int i) {
+        return velocityX[i];
+    }
+
+    public double getVelocityY(int i) {
+        return velocityY[i];
+    }
+
+    /**
+     * Gets the number of asteroids of a type spawned during the level.
+     *
+     * @param archetype The archetype index of the type.
+     * @return The number of asteroids of the type.
+     */
+    public int getTypeCount(int archetype) {
+        return typeCounts[archetype];
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Builds {@link LevelPlan}s, the next one on a worker thread while the current level is being played,
+ * so that leveling up only has to pick up a finished plan instead of rolling the whole level in the middle of a step.
+ *
+ * @author Jose Silva
+ */
+public class LevelPlanner {
+
+    private static final int TIERS = 3;
+
+    private final AsteroidArchetypes archetypes;
+    private final Executor worker;
+    // Thread started for this planner alone, null when the session shares an executor
+    private final ExecutorService ownWorker;
+    // Plan being built for the next level, completed by the worker
+    private CompletableFuture<LevelPlan> next;
+    private int nextLevel;
+
+    /**
+     * Creates a planner working on the session's background executor, or on a thread of its own if it has none.
+     *
+     * @param session The game to plan levels for, giving the asteroid types.
+     */
+    public LevelPlanner(GameSession session) {
+        this.archetypes = session.getArchetypes();
+        if (session.getBackgroundExecutor() != null) {
+            this.ownWorker = null;
+            this.worker = session.getBackgroundExecutor();
+        } else {
+            this.ownWorker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Level planner");
+                // Never keeps the game running on its own
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+            this.worker = ownWorker;
+        }
+    }
+
+    /**
+     * Starts building the plan of a level in the background.
+     *
+     * @param level The level to plan.
+     */
+    public void prepare(int level) {
+        nextLevel = level;
+        next = CompletableFuture.supplyAsync(() -> plan(level), worker);
+    }
+
+    /**
+     * Gets the plan of a level, waiting for the worker if it is still building it.
+     * Levels that were not prepared are planned on the calling thread.
+     *
+     * @param level The level to get the plan of.
+     * @return The plan of the level.
+     */
+    public LevelPlan take(int level) {
+        if (next != null && nextLevel == level) {
+            LevelPlan plan = next.join();
+            next = null;
+            return plan;
+        }
+        return plan(level);
+    }
+
+    /**
+     * Drops the plan being built, if any. The worker finishes it, but nobody picks it up.
+     */
+    public void cancel() {
+        next = null;
+    }
+
+    /**
+     * Builds the plan of a level on the calling thread.
+     *
+     * @param level The level to plan.
+     * @return The plan of the level.
+     */
+    public LevelPlan plan(int level) {
+        int[] distribution = LevelController.calculateEnemyDistribution(level, LevelController.getPoolSize(level));
+        int count = distribution[0] + distribution[1] + distribution[2];
+        int[] order = new int[count];
+        int[] typeCounts = new int[archetypes.size()];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        int n = 0;
+        for (int tier = 1; tier <= TIERS; tier++) {
+            if (distribution[tier - 1] == 0) {
+                continue;
+            }
+            List<AsteroidArchetype> types = archetypes.getTier(tier);
+            if (types.isEmpty()) {
+                throw new IllegalStateException("No asteroid type for tier " + tier);
+            }
+            for (int i = 0; i < distribution[tier - 1]; i++) {
+                int archetype = types.get(random.nextInt(types.size())).getIndex();
+                order[n++] = archetype;
+                typeCounts[archetype]++;
+            }
+        }
+        // Shuffle the spawn order
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        double[] velocityX = new double[count];
+        double[] velocityY = new double[count];
+        for (int i = 0; i < count; i++) {
+            double heading = Asteroid.randomHeading();
+            double speed = archetypes.get(order[i]).getSpeed();
+            velocityX[i] = Math.cos(heading) * speed;
+            velocityY[i] = Math.sin(heading) * speed;
+        }
+        return new LevelPlan(level, distribution[0], distribution[1], distribution[2], order, velocityX, velocityY,
+                typeCounts);
+    }
+
+    /**
+     * Stops the worker thread, if the planner started one. Plans can still be built on the calling thread afterwards.
+     */
+    public void cleanup() {
+        next = null;
+        if (ownWorker != null) {
+            ownWorker.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.Arrays;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable objects of one type, with counters describing how it is used, printed by {@link #toString()}.
+ * Not thread safe, callers sharing a pool between threads synchronize on it.
+ *
+ * @param <T> The type of the pooled objects.
+ * @author Jose Silva
+ */
+public class ObjectPool<T> {
+
+    /**
+     * What a pool does when an object is asked for and none is available.
+     */
+    public enum GrowthPolicy {
+        // Never create more objects than preallocated, acquiring returns null
+        FIXED,
+        // Create one object per miss, up to the maximum size
+        ON_DEMAND,
+        // Create as many objects as the pool already has, up to the maximum size
+        DOUBLING
+    }
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final GrowthPolicy growthPolicy;
+    private final int maxSize;
+    // Time source for the time in use, in seconds
+    private final DoubleSupplier clock;
+
+    // Every object created by the pool, in creation order, and whether it is acquired
+    private Object[] created;
+    private boolean[] inUse;
+    private int size;
+    // Creation order of the objects ready to be acquired, as a stack
+    private int[] available;
+    private int availableCount;
+
+    // Counters
+    private long acquires;
+    private long misses;
+    private long releases;
+    private int highWaterMark;
+    // Sum over time of the number of objects in use, in object-seconds
+    private double timeInUse;
+    private double lastChangeTime;
+
+    /**
+     * Creates a pool and fills it with its initial objects.
+     *
+     * @param name The name of the pool, shown in its counters.
+     * @param factory Creates the pooled objects.
+     * @param initialSize The number of objects to create straight away.
+     * @param maxSize The number of objects the pool may create in total.
+     * @param growthPolicy What to do when no object is available.
+     * @param clock Time source measuring how long objects stay in use, in seconds.
+     */
+    public ObjectPool(String name, Supplier<T> factory, int initialSize, int maxSize, GrowthPolicy growthPolicy,
+                      DoubleSupplier clock) {
+        if (initialSize < 0 || maxSize < initialSize) {
+            throw new IllegalArgumentException("Invalid pool sizes: " + initialSize + ", " + maxSize);
+        }
+        this.name = name;
+        this.factory = factory;
+        this.growthPolicy = growthPolicy;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        int capacity = Math.max(initialSize, 1);
+        this.created = new Object[capacity];
+        this.inUse = new boolean[capacity];
+        this.available = new int[capacity];
+        this.lastChangeTime = clock.getAsDouble();
+        create(initialSize);
+    }
+
+    /**
+     * Makes sure a number of objects is available without creating anything while acquiring them,
+     * regardless of the growth policy.
+     *
+     * @param count The number of objects that should be available.
+     */
+    public void preallocate(int count) {
+        int missing = Math.min(count - availableCount, maxSize - size);
+        if (missing > 0) {
+            create(missing);
+        }
+    }
+
+    /**
+     * Takes an object out of the pool, creating one if the growth policy allows it.
+     *
+     * @return An object, or null if none is available and the pool can't grow.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        acquires++;
+        if (availableCount == 0) {
+            misses++;
+            grow();
+            if (availableCount == 0) {
+                return null;
+            }
+        }
+        accumulateTimeInUse();
+        int index = available[--availableCount];
+        inUse[index] = true;
+        highWaterMark = Math.max(highWaterMark, getInUse());
+        return (T) created[index];
+    }
+
+    /**
+     * Gives an object back to the pool. Each acquired object must be released once.
+     *
+     * @param object An object acquired from this pool.
+     * @throws IllegalStateException If the object is not in use, because it was already released or never acquired.
+     */
+    public void release(T object) {
+        int index = indexOf(object);
+        if (index < 0 || !inUse[index]) {
+            throw new IllegalStateException(name + " pool: released an object that is not in use: " + object);
+        }
+        accumulateTimeInUse();
+        inUse[index] = false;
+        available[availableCount++] = index;
+        releases++;
+    }
+
+    /**
+     * Checks whether an object of the pool is acquired and not released yet.
+     *
+     * @param object The object.
+     * @return True if the object is in use, false if it is available or not from this pool.
+     */
+    public boolean isInUse(T object) {
+        int index = indexOf(object);
+        return index >= 0 && inUse[index];
+    }
+
+    private int indexOf(T object) {
+        for (int i = 0; i < size; i++) {
+            if (created[i] == object) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void grow() {
+        int count = switch (growthPolicy) {
+            case FIXED -> 0;
+            case ON_DEMAND -> 1;
+            case DOUBLING -> Math.max(size, 1);
+        };
+        count = Math.min(count, maxSize - size);
+        if (count > 0) {
+            create(count);
+        }
+    }
+
+    private void create(int count) {
+        if (size + count > created.length) {
+            int capacity = Math.max(size + count, created.length * 2);
+            created = Arrays.copyOf(created, capacity);
+            inUse = Arrays.copyOf(inUse, capacity);
+            available = Arrays.copyOf(available, capacity);
+        }
+        for (int i = 0; i < count; i++) {
+            created[size] = factory.get();
+            available[availableCount++] = size++;
+        }
+    }
+
+    private void accumulateTimeInUse() {
+        double now = clock.getAsDouble();
+        timeInUse += getInUse() * (now - lastChangeTime);
+        lastChangeTime = now;
+    }
+
+    /**
+     * Gets an object created by the pool, whether it is in use or not.
+     *
+     * @param index The creation order of the object, below {@link #getSize()}.
+     * @return The object.
+     */
+    @SuppressWarnings("unchecked")
+    public T getCreated(int index) {
+        return (T) created[index];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of objects the pool created so far.
+     *
+     * @return The size of the pool.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getAvailable() {
+        return availableCount;
+    }
+
+    public int getInUse() {
+        return size - availableCount;
+    }
+
+    public long getAcquires() {
+        return acquires;
+    }
+
+    /**
+     * Gets the number of acquires that found no object ready, whether the pool could grow or not.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getReleases() {
+        return releases;
+    }
+
+    /**
+     * Gets the largest number of objects that were in use at the same time.
+     *
+     * @return The high-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Gets how long an object stays in use on average, between being acquired and released.
+     *
+     * @return The average time in use in seconds, or 0 if nothing was released yet.
+     */
+    public double getAverageTimeInUse() {
+        if (releases == 0) {
+            return 0;
+        }
+        double now = clock.getAsDouble();
+        return (timeInUse + getInUse() * (now - lastChangeTime)) / releases;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s pool: size %d/%d, acquires %d, misses %d, high-water mark %d, average time in use %.3fs",
+                name, size, maxSize, acquires, misses, highWaterMark, getAverageTimeInUse());
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * This class represents the player character in the game.
+ *
+ * @author Jose Silva
+ */
+public class Player {
+
+    /**
+     * Minimum simulation time between two shots, in seconds.
+     */
+    private static final double FIRE_INTERVAL = 0.1;
+
+    /**
+     * The game the player is playing.
+     */
+    private final GameSession session;
+
+    /**
+     * Player's spaceship.
+     */
+    private Spaceship spaceship;
+
+    /**
+     * Current number of player lives.
+     */
+    private int lives;
+
+    /**
+     * Player's current score.
+     */
+    private int score;
+
+    /**
+     * Timer wheel used to limit the firing rate.
+     */
+    private final TimerWheel timers;
+
+    /**
+     * Cleared on every shot and set again by a timer once FIRE_INTERVAL has passed.
+     */
+    private boolean readyToShoot = true;
+
+    /**
+     * Sets readyToShoot again, reused for every shot.
+     */
+    private TimerWheel.Timer fireTimer;
+
+    /**
+     * Set when the player presses the fire key, consumed by the next simulation step.
+     */
+    private volatile boolean shotRequested;
+
+    /**
+     * Constructs a new Player object.
+     *
+     * @param session The game the player is playing.
+     * @param timers The timer wheel shared with the rest of the game.
+     */
+    public Player(GameSession session, TimerWheel timers) {
+        this.session = session;
+        this.timers = timers;
+        this.lives = 3;
+        this.score = 0;
+        spaceship = new Spaceship(timers);
+    }
+
+    public String getName() {
+        return session.getPlayerName();
+    }
+
+    /**
+     * Gets the player's spaceship.
+     *
+     * @return The player's spaceship.
+     */
+    public Spaceship getSpaceship() {
+        return spaceship;
+    }
+
+    /**
+     * Gets the number of player lives remaining.
+     *
+     * @return The number of player lives.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Gets the player's current score.
+     *
+     * @return The player's score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Removes a life from the player.
+     */
+    public void removeLife() {
+        this.lives--;
+    }
+
+    /**
+     * Increases the player's score by a specified amount.
+     *
+     * @param amount The amount to increase the score.
+     */
+    public void increaseScore(int amount) {
+        score += amount;
+    }
+
+
+    /**
+     * Gives the player back their lives, score and spaceship as they were at the start of the game.
+     * Pending timers must have been cleared beforehand.
+     */
+    public void reset() {
+        lives = 3;
+        score = 0;
+        readyToShoot = true;
+        shotRequested = false;
+        spaceship.reset();
+    }
+
+    /**
+     * Asks for a laser to be fired on the next simulation step. Called when the fire key is pressed.
+     */
+    public void requestShot() {
+        shotRequested = true;
+    }
+
+    /**
+     * Fires a laser from the player's spaceship if a shot was requested since the last step.
+     *
+     * @param events Notified when a laser is fired.
+     */
+    public void shoot(GameEvents events) {
+        if (!shotRequested) {
+            return;
+        }
+        shotRequested = false;
+
+        if (readyToShoot) { // Limit firing rate to 1/0.1 seconds
+            Laser laser = spaceship.shoot();
+            if (laser != null) {
+                events.laserFired();
+            }
+            readyToShoot = false;
+            if (fireTimer == null) {
+                fireTimer = timers.schedule(FIRE_INTERVAL, () -> readyToShoot = true);
+            } else {
+                timers.restart(fireTimer, FIRE_INTERVAL);
+            }
+        }
+    }
+
+    /**
+     * Updates the position of the player's lasers.
+     */
+    public void updateLasers(double deltaTime) {
+        LaserPool laserPool = spaceship.getLaserPool();
+        // Create animation for the laser
+        for (int i = 0; i < laserPool.getActiveCount(); i++) {
+            Laser laser = laserPool.getActiveLaser(i);
+            laser.savePreviousState();
+            double velocityX = laser.getVelocityX();
+            double velocityY = laser.getVelocityY();
+
+            // Update distance travelled over the past frame
+            laser.addDistanceTraveled(laser.getLaserSpeed() * deltaTime);
+
+            double movLaserThisFrameX = laser.getX() + velocityX * deltaTime;
+            double movLaserThisFrameY = laser.getY() + velocityY * deltaTime;
+            double movBoundThisFrameX = laser.getBoundX() + velocityX * deltaTime;
+            double movBoundThisFrameY = laser.getBoundY() + velocityY * deltaTime;
+
+            laser.setPosition(movLaserThisFrameX, movLaserThisFrameY, movBoundThisFrameX, movBoundThisFrameY);
+
+            if (laser.getDistanceTraveled() >= 1000) {
+                laserPool.deactivateLaser(laser);
+                laser.resetDistanceTraveled();
+            }
+        }
+        laserPool.removeStoppedLasers();
+    }
+
+    /**
+     * Cleans up player resources.
+     */
+    public void cleanup() {
+
+        spaceship.cleanup();
+        spaceship = null;
+
+        System.out.println("Player cleanup complete");
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Virtual clock shared by every timed mechanic of the game, which only moves when the simulation is stepped.
+ *
+ * @author Jose Silva
+ */
+public class SimulationClock {
+
+    /**
+     * Simulation time elapsed since the clock was created or reset, in seconds.
+     */
+    private double time;
+
+    /**
+     * Number of simulation steps the clock has been advanced by.
+     */
+    private long tickCount;
+
+    /**
+     * Creates a clock at time 0.
+     */
+    public SimulationClock() {
+    }
+
+    /**
+     * Advances the clock by one simulation step.
+     *
+     * @param deltaTime The length of the step, in seconds.
+     */
+    public void advance(double deltaTime) {
+        time += deltaTime;
+        tickCount++;
+    }
+
+    /**
+     * Gets the current simulation time.
+     *
+     * @return The simulation time in seconds.
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the number of simulation steps taken so far.
+     *
+     * @return The number of steps.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the simulation time elapsed since a previous reading of this clock.
+     *
+     * @param since A time previously returned by {@link #getTime()}.
+     * @return The elapsed simulation time in seconds.
+     */
+    public double elapsedSince(double since) {
+        return time - since;
+    }
+
+    /**
+     * Resets the clock back to zero.
+     */
+    public void reset() {
+        time = 0;
+        tickCount = 0;
+    }
+}
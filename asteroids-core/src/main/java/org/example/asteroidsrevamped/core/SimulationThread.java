@@ -0,0 +1,115 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs the game simulation on its own thread at a fixed tick rate, away from the thread that draws the game.
+ *
+ * @author Jose Silva
+ */
+public class SimulationThread {
+
+    // How long the thread sleeps between checks while paused
+    private static final long PAUSED_POLL_NANOS = 10_000_000;
+    // Longest delay the thread will catch up on, anything above is dropped to prevent a spiral of death
+    private static final long MAX_CATCH_UP_NANOS = 250_000_000;
+
+    private final Runnable tick;
+    private final LongSupplier tickNanos;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile boolean paused = false;
+    // Held while a tick runs
+    private final Object tickLock = new Object();
+
+    /**
+     * Creates a simulation thread. The thread is not started until {@link #start()} is called.
+     *
+     * @param tick The simulation step to run on every tick.
+     * @param tickNanos Supplies the current length of a tick, in nanoseconds.
+     */
+    public SimulationThread(Runnable tick, LongSupplier tickNanos) {
+        this.tick = tick;
+        this.tickNanos = tickNanos;
+        this.thread = new Thread(this::run, "simulation");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops running ticks. A tick already in progress is allowed to finish.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Stops running ticks, and waits for a tick in progress to finish.
+     * Once this returns, the caller can work on what the ticks use until {@link #resume()} is called.
+     */
+    public void pauseAndWait() {
+        pause();
+        synchronized (tickLock) {
+            // Nothing to do, holding the lock is enough to know no tick is running
+        }
+    }
+
+    /**
+     * Resumes running ticks, starting from the current time.
+     */
+    public void resume() {
+        paused = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Stops the thread and waits for the current tick to finish.
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        while (running) {
+            if (paused) {
+                LockSupport.parkNanos(PAUSED_POLL_NANOS);
+                // Don't try to catch up on the time spent paused
+                nextTick = System.nanoTime();
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (now < nextTick) {
+                LockSupport.parkNanos(nextTick - now);
+                continue;
+            }
+
+            synchronized (tickLock) {
+                // Checked again under the lock, so pauseAndWait never returns right before a tick
+                if (paused) {
+                    continue;
+                }
+                tick.run();
+            }
+            nextTick += tickNanos.getAsLong();
+
+            if (now - nextTick > MAX_CATCH_UP_NANOS) {
+                nextTick = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Triple buffer handing world snapshots from the simulation over to the renderer without either side ever waiting.
+ *
+ * @author Jose Silva
+ */
+public class SnapshotExchange {
+
+    // Owned by the simulation
+    private WorldSnapshot backBuffer = new WorldSnapshot();
+    private long publishedCount;
+    // Latest published snapshot, waiting to be picked up
+    private final AtomicReference<WorldSnapshot> shared = new AtomicReference<>(new WorldSnapshot());
+    // Owned by the renderer
+    private WorldSnapshot frontBuffer = new WorldSnapshot();
+
+    /**
+     * Creates an exchange with three empty snapshots.
+     */
+    public SnapshotExchange() {
+    }
+
+    /**
+     * Gets the snapshot the simulation should fill next. Only call from the simulation.
+     *
+     * @return The back buffer.
+     */
+    public WorldSnapshot getBackBuffer() {
+        return backBuffer;
+    }
+
+    /**
+     * Publishes the back buffer and takes an unused buffer in its place. Only call from the simulation.
+     *
+     * @param timeStep The length of the step the back buffer was captured after, in seconds.
+     */
+    public void publish(double timeStep) {
+        backBuffer.markPublished(System.nanoTime(), ++publishedCount, timeStep);
+        backBuffer = shared.getAndSet(backBuffer);
+    }
+
+    /**
+     * Gets the most recently published snapshot. Only call from the renderer.
+     *
+     * @return The newest snapshot available, which stays untouched until the next call.
+     */
+    public WorldSnapshot getLatest() {
+        if (shared.get().getSequence() > frontBuffer.getSequence()) {
+            frontBuffer = shared.getAndSet(frontBuffer);
+        }
+        return frontBuffer;
+    }
+}
@@ -0,0 +1,219 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * The player's spaceship: its movement, the keys currently held, and the lasers it fires.
+ *
+ * @author Jose Silva
+ */
+public final class Spaceship extends Entity {
+
+    // Spaceship parameters:
+    public final static double SIZE = 60;
+    private double velocityX = 0;
+    private double velocityY = 0;
+    private final static double MAX_SPEED = 150;
+    private final static double ACCELERATION = 75;
+    private final static double ROTATION_SPEED = 80;
+
+    // Movement parameters. Set from key events, read by the simulation
+    private volatile boolean rotateRight = false;
+    private volatile boolean rotateLeft = false;
+    private volatile boolean moveFront = false;
+    private volatile boolean moveBack = false;
+
+    // Laser creation and pooling
+    private final LaserPool laserPool;
+
+    public Spaceship(TimerWheel timers) {
+        this.laserPool = new LaserPool(timers);
+        placeAtStart();
+    }
+
+    /**
+     * Puts the spaceship back in the middle of the screen, still and facing right, with every laser loaded.
+     */
+    public void reset() {
+        velocityX = 0;
+        velocityY = 0;
+        rotation = 0;
+        rotateRight = false;
+        rotateLeft = false;
+        moveFront = false;
+        moveBack = false;
+        placeAtStart();
+        laserPool.reset();
+    }
+
+    private void placeAtStart() {
+        this.x = GameWorld.WIDTH/2 - SIZE/2;
+        this.y = GameWorld.HEIGHT/2 - SIZE;
+        savePreviousState();
+        // The hull is positioned by its top-left corner, like the spaceship
+        this.boundsX = x;
+        this.boundsY = y;
+    }
+
+
+    public void updatePosition(double deltaTime) {
+        savePreviousState();
+
+        // Update the spaceship's position based on velocity
+        double xPos = x + velocityX * deltaTime;
+        double yPos = y + velocityY * deltaTime;
+
+        // Wrap position if out of bounds
+        boolean wrapped = false;
+
+        if (xPos < -SIZE / 2) {
+            xPos = GameWorld.WIDTH;
+            wrapped = true;
+        } else if (xPos > GameWorld.WIDTH) {
+            xPos = -SIZE / 2;
+            wrapped = true;
+        }
+
+        if (yPos < -SIZE / 2) {
+            yPos = GameWorld.HEIGHT;
+            wrapped = true;
+        } else if (yPos > GameWorld.HEIGHT) {
+            yPos = -SIZE / 2;
+            wrapped = true;
+        }
+
+        // Update spaceship and bounds position
+        x = xPos;
+        y = yPos;
+        this.boundsX = xPos;
+        this.boundsY = yPos;
+
+        // Don't blend the jump to the other side of the screen
+        if (wrapped) {
+            previousX = x;
+            previousY = y;
+        }
+
+        // Scale rotation speed with deltaTime
+        double rotationAmount = ROTATION_SPEED * deltaTime;
+
+        // Allow movement if dedicated key is pressed down
+        if (rotateLeft) {
+            rotation -= rotationAmount;
+        }
+
+        if (rotateRight) {
+            rotation += rotationAmount;
+        }
+
+        if (moveFront) {
+            frontMovementCalc(deltaTime);
+        }
+
+        if (moveBack) {
+            backMovementCalc(deltaTime);
+        }
+    }
+
+    public void moveFront() {
+        moveFront = true;
+    }
+
+    public void notMoveFront() {
+        moveFront = false;
+    }
+
+    public void rotateLeft() {
+        rotateLeft = true;
+    }
+
+    public void rotateRight() {
+        rotateRight = true;
+    }
+
+    public void stopRotating() {
+        rotateLeft = false;
+        rotateRight = false;
+    }
+
+    public void moveBack() {
+        moveBack = true;
+    }
+
+    public void notMoveBack() {
+        moveBack = false;
+    }
+
+    private void frontMovementCalc(double deltaTime) {
+        // Calculate the angle in radians from the current rotation
+        double angleInRadians = Math.toRadians(rotation);
+
+        // Apply ACCELERATION to the velocity components
+        velocityX += Math.cos(angleInRadians) * ACCELERATION * deltaTime;
+        velocityY += Math.sin(angleInRadians) * ACCELERATION * deltaTime;
+
+        // Cap the velocity to prevent it from exceeding MAX_SPEED
+        double speed = Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        if (speed > MAX_SPEED) {
+            velocityX = (velocityX / speed) * MAX_SPEED;
+            velocityY = (velocityY / speed) * MAX_SPEED;
+        }
+    }
+
+    private void backMovementCalc(double deltaTime) {
+        // Deceleration factor
+        double decelerationFactor = 0.5; // Smaller value = faster deceleration. From 0 to 1.
+
+        // Reduce velocity components proportionally
+        velocityX *= Math.pow(decelerationFactor, deltaTime);
+        velocityY *= Math.pow(decelerationFactor, deltaTime);
+
+        // Optional: Stop movement if speed is below a certain threshold
+        double speed = Math.sqrt(velocityX * velocityX + velocityY * velocityY);
+        if (speed < 10) { // Threshold for minimal movement
+            velocityX = 0;
+            velocityY = 0;
+        }
+    }
+
+    public Laser shoot() {
+        Laser laser = laserPool.getLaser();
+        if (laser != null) {
+            // Calculate center of spaceship
+            double spaceshipCenterX = x + SIZE / 2;
+            double spaceshipCenterY = y + SIZE / 2;
+
+            // Calculate offset from center where laser should appear (front of spaceship)
+            double angleInRadians = Math.toRadians(rotation);
+            double offsetDistance = (SIZE / 2) + 10; // Distance from center to front of spaceship
+
+            // Calculate laser starting position. for the center of laser view to align with the center of the spaceship, we deduct half the laser height from it
+            double laserStartX = spaceshipCenterX + (Math.cos(angleInRadians) * offsetDistance) - Laser.LASER_WIDTH/2;
+            double laserStartY = spaceshipCenterY + (Math.sin(angleInRadians) * offsetDistance);
+            // Calculate laser bounds starting position
+            double laserBoundsStartX = spaceshipCenterX + (Math.cos(angleInRadians) * (offsetDistance + Laser.LASER_WIDTH-Laser.LASER_WIDTH/1.5));
+            double laserBoundsStartY = spaceshipCenterY + (Math.sin(angleInRadians) * (offsetDistance + Laser.LASER_WIDTH-Laser.LASER_WIDTH/1.5));
+
+            // Set laser rotation and starting position
+            laser.setRotation(rotation);
+            laser.setPosition(laserStartX, laserStartY, laserBoundsStartX, laserBoundsStartY);
+            // A new laser starts from the front of the ship, not from where it was last rendered
+            laser.savePreviousState();
+
+            return laser;
+        }
+        return null;
+    }
+
+
+    public LaserPool getLaserPool() {
+        return laserPool;
+    }
+
+    public void cleanup() {
+        // Clear laser pool
+        laserPool.cleanup();
+
+        System.out.println("Spaceship cleanup complete");
+
+    }
+
+}
@@ -0,0 +1,206 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Collision outline of the spaceship, split once into convex polygons that circles are tested against analytically,
+ * without allocating.
+ *
+ * @author Jose Silva
+ */
+public final class SpaceshipHull {
+
+    // Triangles of the wings, as x, y pairs
+    private static final double[] LEFT_WING = {7.0, 2.0, 7.0, 20.0, 40.0, 20.0};
+    private static final double[] RIGHT_WING = {7.0, 40.0, 7.0, 58.0, 40.0, 40.0};
+    // Rectangle of the body, as x, y, width, height
+    private static final double[] BODY = {0.0, 20.0, 43, 20};
+    // Ellipse of the nose, as center x, center y, radius x, radius y
+    private static final double[] NOSE = {43, 30.0, 17, 10};
+    // Vertices of the polygon standing in for the nose, less than 0.03 pixels inside the ellipse
+    private static final int NOSE_VERTICES = 64;
+
+    // The hull rotates around the center of its bounding box, like a rotated JavaFX node
+    private static final double PIVOT_X = 30;
+    private static final double PIVOT_Y = 30;
+    // Distance from the pivot to the furthest point of the hull (the wing tips)
+    private static final double REACH = Math.hypot(PIVOT_X - 7.0, PIVOT_Y - 2.0);
+
+    // Convex pieces of the hull, as x, y pairs in order around each piece, the cheapest first
+    private static final double[][] PIECES = {
+            LEFT_WING, RIGHT_WING, rectangle(BODY), ellipse(NOSE, NOSE_VERTICES)
+    };
+    // Circle around each piece, as center x, center y, radius, to skip pieces far from the tested circle
+    private static final double[][] PIECE_BOUNDS = boundingCircles(PIECES);
+
+    private SpaceshipHull() {
+    }
+
+    private static double[] rectangle(double[] bounds) {
+        double x = bounds[0];
+        double y = bounds[1];
+        double width = bounds[2];
+        double height = bounds[3];
+        return new double[] {x, y, x + width, y, x + width, y + height, x, y + height};
+    }
+
+    private static double[] ellipse(double[] ellipse, int vertices) {
+        double[] polygon = new double[vertices * 2];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            polygon[i * 2] = ellipse[0] + Math.cos(angle) * ellipse[2];
+            polygon[i * 2 + 1] = ellipse[1] + Math.sin(angle) * ellipse[3];
+        }
+        return polygon;
+    }
+
+    private static double[][] boundingCircles(double[][] pieces) {
+        double[][] bounds = new double[pieces.length][];
+        for (int p = 0; p < pieces.length; p++) {
+            double[] piece = pieces[p];
+            int vertices = piece.length / 2;
+            double centerX = 0;
+            double centerY = 0;
+            for (int i = 0; i < vertices; i++) {
+                centerX += piece[i * 2] / vertices;
+                centerY += piece[i * 2 + 1] / vertices;
+            }
+            double radius = 0;
+            for (int i = 0; i < vertices; i++) {
+                radius = Math.max(radius, Math.hypot(piece[i * 2] - centerX, piece[i * 2 + 1] - centerY));
+            }
+            bounds[p] = new double[] {centerX, centerY, radius};
+        }
+        return bounds;
+    }
+
+    /**
+     * Checks whether the hull overlaps a circle.
+     *
+     * @param hullX The x-coordinate of the hull's top-left corner.
+     * @param hullY The y-coordinate of the hull's top-left corner.
+     * @param rotation The rotation of the hull in degrees.
+     * @param centerX The x-coordinate of the circle's center.
+     * @param centerY The y-coordinate of the circle's center.
+     * @param radius The radius of the circle.
+     * @return True if the hull and the circle overlap.
+     */
+    public static boolean intersectsCircle(double hullX, double hullY, double rotation,
+                                           double centerX, double centerY, double radius) {
+        double dx = centerX - (hullX + PIVOT_X);
+        double dy = centerY - (hullY + PIVOT_Y);
+        double reach = REACH + radius;
+        if (dx * dx + dy * dy > reach * reach) {
+            return false;
+        }
+
+        // A circle looks the same at any rotation, so rotate its center into the hull's space instead of the hull
+        double angle = Math.toRadians(-rotation);
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return intersectsLocalCircle(dx * cos - dy * sin + PIVOT_X, dx * sin + dy * cos + PIVOT_Y, radius);
+    }
+
+    /**
+     * Checks whether the hull overlaps a circle already in the hull's own space, where it isn't rotated and its
+     * top-left corner is the origin.
+     *
+     * @param localX The x-coordinate of the circle's center, in the hull's space.
+     * @param localY The y-coordinate of the circle's center, in the hull's space.
+     * @param radius The radius of the circle.
+     * @return True if the hull and the circle overlap.
+     */
+    static boolean intersectsLocalCircle(double localX, double localY, double radius) {
+        double dx = localX - PIVOT_X;
+        double dy = localY - PIVOT_Y;
+        double reach = REACH + radius;
+        if (dx * dx + dy * dy > reach * reach) {
+            return false;
+        }
+        for (int p = 0; p < PIECES.length; p++) {
+            double[] bounds = PIECE_BOUNDS[p];
+            double boundsX = localX - bounds[0];
+            double boundsY = localY - bounds[1];
+            double boundsReach = bounds[2] + radius;
+            if (boundsX * boundsX + boundsY * boundsY <= boundsReach * boundsReach
+                    && polygonIntersectsCircle(PIECES[p], localX, localY, radius)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a convex polygon overlaps a circle.
+     *
+     * @param polygon The vertices of the polygon, as x, y pairs in order around it, either way.
+     * @param centerX The x-coordinate of the circle's center.
+     * @param centerY The y-coordinate of the circle's center.
+     * @param radius The radius of the circle.
+     * @return True if the center is inside the polygon, or closer to one of its edges than the radius.
+     */
+    static boolean polygonIntersectsCircle(double[] polygon, double centerX, double centerY, double radius) {
+        int vertices = polygon.length / 2;
+        double radiusSquared = radius * radius;
+        boolean left = false;
+        boolean right = false;
+        for (int i = 0; i < vertices; i++) {
+            int j = i + 1 == vertices ? 0 : i + 1;
+            double startX = polygon[i * 2];
+            double startY = polygon[i * 2 + 1];
+            double edgeX = polygon[j * 2] - startX;
+            double edgeY = polygon[j * 2 + 1] - startY;
+            double toCenterX = centerX - startX;
+            double toCenterY = centerY - startY;
+
+            // Which side of the edge the center is on. Inside a convex polygon, it is the same side for every edge
+            double cross = edgeX * toCenterY - edgeY * toCenterX;
+            if (cross > 0) {
+                left = true;
+            } else if (cross < 0) {
+                right = true;
+            }
+
+            // Closest point of the edge to the center
+            double t = (toCenterX * edgeX + toCenterY * edgeY) / (edgeX * edgeX + edgeY * edgeY);
+            t = Math.max(0, Math.min(1, t));
+            double offsetX = toCenterX - t * edgeX;
+            double offsetY = toCenterY - t * edgeY;
+            if (offsetX * offsetX + offsetY * offsetY <= radiusSquared) {
+                return true;
+            }
+        }
+        return !(left && right);
+    }
+
+    /**
+     * Gets the distance from the hull's pivot to its furthest point: the hull always fits in a circle of that radius.
+     *
+     * @return The reach of the hull.
+     */
+    public static double getReach() {
+        return REACH;
+    }
+
+    public static double getPivotX() {
+        return PIVOT_X;
+    }
+
+    public static double getPivotY() {
+        return PIVOT_Y;
+    }
+
+    public static double[] getLeftWing() {
+        return LEFT_WING.clone();
+    }
+
+    public static double[] getRightWing() {
+        return RIGHT_WING.clone();
+    }
+
+    public static double[] getBody() {
+        return BODY.clone();
+    }
+
+    public static double[] getNose() {
+        return NOSE.clone();
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over the asteroid field, rebuilt every step and wrapping around like the screen, the broadphase of the
+ * collision checks.
+ *
+ * @author Jose Silva
+ */
+public class SpatialGrid {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final double width;
+    private final double height;
+    private final int columns;
+    private final int rows;
+    private final double cellWidth;
+    private final double cellHeight;
+
+    // Rows of the field sorted by cell: the rows of cell c are cellRows[cellStart[c]] to cellRows[cellStart[c + 1] - 1]
+    private final int[] cellStart;
+    // Next free position of each cell while building
+    private final int[] cellFill;
+    private int[] cellRows = new int[INITIAL_CAPACITY];
+    // Cell of each row of the field
+    private int[] rowCells = new int[INITIAL_CAPACITY];
+    // Centers, radii and velocities of the rows, in the same order as cellRows
+    private double[] cellCentersX = new double[INITIAL_CAPACITY];
+    private double[] cellCentersY = new double[INITIAL_CAPACITY];
+    private double[] cellRadii = new double[INITIAL_CAPACITY];
+    private double[] cellVelocitiesX = new double[INITIAL_CAPACITY];
+    private double[] cellVelocitiesY = new double[INITIAL_CAPACITY];
+    // Largest radius in the grid, added to the reach of every query
+    private double maxRadius;
+    // Largest speed in the grid, for queries covering a whole step
+    private double maxSpeed;
+
+    // Result of the last query
+    private int[] candidates = new int[INITIAL_CAPACITY];
+    private int candidateCount;
+    // Centers, radii and velocities of the candidates, only filled by packed queries
+    double[] candidateCentersX = new double[INITIAL_CAPACITY];
+    double[] candidateCentersY = new double[INITIAL_CAPACITY];
+    double[] candidateRadii = new double[INITIAL_CAPACITY];
+    double[] candidateVelocitiesX = new double[INITIAL_CAPACITY];
+    double[] candidateVelocitiesY = new double[INITIAL_CAPACITY];
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param width The width of the world, where it wraps around.
+     * @param height The height of the world, where it wraps around.
+     * @param cellSize The smallest size of a cell, usually the size of the largest asteroid.
+     */
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.width = width;
+        this.height = height;
+        this.columns = Math.max(1, (int) (width / cellSize));
+        this.rows = Math.max(1, (int) (height / cellSize));
+        // Stretch the cells so that a whole number of them covers the world
+        this.cellWidth = width / columns;
+        this.cellHeight = height / rows;
+        this.cellStart = new int[columns * rows + 1];
+        this.cellFill = new int[columns * rows];
+    }
+
+    /**
+     * Sorts every asteroid of a field into the cell of its center.
+     *
+     * @param field The asteroids to sort. The grid refers to them by row, until the field changes.
+     */
+    public void build(AsteroidField field) {
+        int count = field.size();
+        // Sized on the field's room rather than its asteroids, so that the grid only grows along with the field
+        if (cellRows.length < field.getCapacity()) {
+            int capacity = field.getCapacity();
+            cellRows = new int[capacity];
+            rowCells = new int[capacity];
+            candidates = new int[capacity];
+            cellCentersX = new double[capacity];
+            cellCentersY = new double[capacity];
+            cellRadii = new double[capacity];
+            cellVelocitiesX = new double[capacity];
+            cellVelocitiesY = new double[capacity];
+            candidateCentersX = new double[capacity];
+            candidateCentersY = new double[capacity];
+            candidateRadii = new double[capacity];
+            candidateVelocitiesX = new double[capacity];
+            candidateVelocitiesY = new double[capacity];
+        }
+
+        // Count the rows of each cell, shifted by one so the prefix sum gives where each cell starts
+        Arrays.fill(cellStart, 0);
+        maxRadius = 0;
+        double maxSpeedSquared = 0;
+        for (int i = 0; i < count; i++) {
+            int cell = cellOf(field.getCenterX(i), field.getCenterY(i));
+            rowCells[i] = cell;
+            cellStart[cell + 1]++;
+            maxRadius = Math.max(maxRadius, field.getRadius(i));
+            double velocityX = field.getVelocityX(i);
+            double velocityY = field.getVelocityY(i);
+            maxSpeedSquared = Math.max(maxSpeedSquared, velocityX * velocityX + velocityY * velocityY);
+        }
+        maxSpeed = Math.sqrt(maxSpeedSquared);
+        for (int cell = 0; cell < cellFill.length; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        System.arraycopy(cellStart, 0, cellFill, 0, cellFill.length);
+        for (int i = 0; i < count; i++) {
+            int k = cellFill[rowCells[i]]++;
+            cellRows[k] = i;
+            cellCentersX[k] = field.getCenterX(i);
+            cellCentersY[k] = field.getCenterY(i);
+            cellRadii[k] = field.getRadius(i);
+            cellVelocitiesX[k] = field.getVelocityX(i);
+            cellVelocitiesY[k] = field.getVelocityY(i);
+        }
+    }
+
+    /**
+     * Finds the asteroids that may overlap a circle: those in every cell within reach of it.
+     * Get them with {@link #getCandidate(int)}, they still need an exact test.
+     *
+     * @param x The x-coordinate of the circle's center.
+     * @param y The y-coordinate of the circle's center.
+     * @param radius The radius of the circle, or of a circle around the shape to test.
+     * @return The number of candidates.
+     */
+    public int query(double x, double y, double radius) {
+        return query(x, y, radius, false);
+    }
+
+    /**
+     * Same as {@link #query}, but also copies the center, radius and velocity of every candidate next to each other,
+     * as they were when the grid was built, so that a narrowphase test can go through them in blocks.
+     *
+     * @param x The x-coordinate of the circle's center.
+     * @param y The y-coordinate of the circle's center.
+     * @param radius The radius of the circle, or of a circle around the shape to test.
+     * @return The number of candidates.
+     */
+    public int queryPacked(double x, double y, double radius) {
+        return query(x, y, radius, true);
+    }
+
+    private int query(double x, double y, double radius, boolean packed) {
+        double reach = radius + maxRadius;
+        int firstColumn = (int) Math.floor((x - reach) / cellWidth);
+        int lastColumn = (int) Math.floor((x + reach) / cellWidth);
+        int firstRow = (int) Math.floor((y - reach) / cellHeight);
+        int lastRow = (int) Math.floor((y + reach) / cellHeight);
+        // Never visit a cell twice when the reach covers the whole world
+        if (lastColumn - firstColumn >= columns) {
+            firstColumn = 0;
+            lastColumn = columns - 1;
+        }
+        if (lastRow - firstRow >= rows) {
+            firstRow = 0;
+            lastRow = rows - 1;
+        }
+
+        candidateCount = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            int rowStart = Math.floorMod(row, rows) * columns;
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int cell = rowStart + Math.floorMod(column, columns);
+                int start = cellStart[cell];
+                int length = cellStart[cell + 1] - start;
+                if (packed) {
+                    System.arraycopy(cellCentersX, start, candidateCentersX, candidateCount, length);
+                    System.arraycopy(cellCentersY, start, candidateCentersY, candidateCount, length);
+                    System.arraycopy(cellRadii, start, candidateRadii, candidateCount, length);
+                    System.arraycopy(cellVelocitiesX, start, candidateVelocitiesX, candidateCount, length);
+                    System.arraycopy(cellVelocitiesY, start, candidateVelocitiesY, candidateCount, length);
+                }
+                for (int k = 0; k < length; k++) {
+                    candidates[candidateCount++] = cellRows[start + k];
+                }
+            }
+        }
+        return candidateCount;
+    }
+
+    /**
+     * Gets an asteroid found by the last query.
+     *
+     * @param i The index of the candidate, below the count returned by the query.
+     * @return The row of the asteroid in the field.
+     */
+    public int getCandidate(int i) {
+        return candidates[i];
+    }
+
+    private int cellOf(double x, double y) {
+        int column = Math.floorMod((int) Math.floor(x / cellWidth), columns);
+        int row = Math.floorMod((int) Math.floor(y / cellHeight), rows);
+        return row * columns + column;
+    }
+
+    /**
+     * Gets the speed of the fastest asteroid in the grid. Queries about a whole step add how far it moves in that time
+     * to their radius, since the grid only knows where asteroids are at the end of the step.
+     *
+     * @return The largest speed, in pixels per second.
+     */
+    public double getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Supported fixed simulation rates for the game loop.
+ *
+ * @author Jose Silva
+ */
+public enum TickRate {
+    HZ_30(30),
+    HZ_60(60),
+    HZ_120(120),
+    HZ_240(240);
+
+    private final int hertz;
+
+    TickRate(int hertz) {
+        this.hertz = hertz;
+    }
+
+    /**
+     * Gets the number of simulation steps per second.
+     *
+     * @return The tick rate in hertz.
+     */
+    public int getHertz() {
+        return hertz;
+    }
+
+    /**
+     * Gets the length of one simulation step.
+     *
+     * @return The fixed time step in seconds.
+     */
+    public double getTimeStep() {
+        return 1.0 / hertz;
+    }
+
+    /**
+     * Gets the next lower tick rate, or this one if it is already the lowest.
+     *
+     * @return The next lower tick rate.
+     */
+    public TickRate lower() {
+        return ordinal() == 0 ? this : values()[ordinal() - 1];
+    }
+
+    /**
+     * Finds the tick rate matching the given frequency.
+     *
+     * @param hertz The tick rate in hertz.
+     * @return The matching tick rate.
+     * @throws IllegalArgumentException if the frequency is not supported.
+     */
+    public static TickRate fromHertz(int hertz) {
+        for (TickRate tickRate : values()) {
+            if (tickRate.hertz == hertz) {
+                return tickRate;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported tick rate: " + hertz + "Hz (expected 30, 60, 120 or 240)");
+    }
+}
@@ -0,0 +1,248 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Schedules one-shot and periodic callbacks against the simulation clock, in a hierarchical timer wheel with a
+ * resolution of one millisecond.
+ *
+ * @author Jose Silva
+ */
+public class TimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final double MILLIS_PER_SECOND = 1000;
+
+    /**
+     * A scheduled callback. Keep a reference to it to cancel it.
+     */
+    public static final class Timer {
+        private final Runnable callback;
+        // Period in milliseconds, or 0 for a one-shot timer
+        private final long period;
+        private long expiry;
+        private boolean scheduled;
+        // Position in the wheel, as an intrusive doubly linked list
+        private Timer previous;
+        private Timer next;
+        private int level;
+        private int slot;
+
+        private Timer(Runnable callback, long period) {
+            this.callback = callback;
+            this.period = period;
+        }
+
+        /**
+         * Checks whether the timer is still waiting to fire.
+         *
+         * @return True if the timer is scheduled.
+         */
+        public boolean isScheduled() {
+            return scheduled;
+        }
+    }
+
+    private final SimulationClock clock;
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+    // Last millisecond processed by the wheel
+    private long currentTick;
+    private int scheduledCount;
+
+    /**
+     * Creates a timer wheel driven by the given clock.
+     *
+     * @param clock The simulation clock the timers are measured against.
+     */
+    public TimerWheel(SimulationClock clock) {
+        this.clock = clock;
+        this.currentTick = toTick(clock.getTime());
+    }
+
+    /**
+     * Gets the clock driving this wheel.
+     *
+     * @return The simulation clock.
+     */
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Schedules a callback to run once.
+     *
+     * @param delay Simulation time to wait before running the callback, in seconds.
+     * @param callback The callback to run.
+     * @return The scheduled timer.
+     */
+    public Timer schedule(double delay, Runnable callback) {
+        Timer timer = new Timer(callback, 0);
+        insert(timer, delayToExpiry(delay));
+        return timer;
+    }
+
+    /**
+     * Schedules a callback to run repeatedly until cancelled.
+     *
+     * @param initialDelay Simulation time to wait before the first run, in seconds.
+     * @param period Simulation time between two runs, in seconds.
+     * @param callback The callback to run.
+     * @return The scheduled timer.
+     */
+    public Timer scheduleAtFixedRate(double initialDelay, double period, Runnable callback) {
+        Timer timer = new Timer(callback, Math.max(1, Math.round(period * MILLIS_PER_SECOND)));
+        insert(timer, delayToExpiry(initialDelay));
+        return timer;
+    }
+
+    /**
+     * Schedules a timer again, with the same callback and period, instead of creating a new one.
+     * A timer that is still scheduled is moved to its new expiry.
+     *
+     * @param timer A timer previously returned by this wheel.
+     * @param delay Simulation time to wait before the next run, in seconds.
+     */
+    public void restart(Timer timer, double delay) {
+        cancel(timer);
+        insert(timer, delayToExpiry(delay));
+    }
+
+    /**
+     * Cancels a timer. Does nothing if the timer has already fired or been cancelled.
+     *
+     * @param timer The timer to cancel, may be null.
+     */
+    public void cancel(Timer timer) {
+        if (timer != null && timer.scheduled) {
+            unlink(timer);
+        }
+    }
+
+    /**
+     * Gets the number of timers waiting to fire.
+     *
+     * @return The number of scheduled timers.
+     */
+    public int getScheduledCount() {
+        return scheduledCount;
+    }
+
+    /**
+     * Runs every timer that became due since the last call. Called once per simulation step, after the clock advanced.
+     */
+    public void advance() {
+        long targetTick = toTick(clock.getTime());
+        while (currentTick < targetTick) {
+            if (scheduledCount == 0) {
+                // Nothing to fire or cascade, skip straight to the target
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            cascade();
+            fireSlot((int) (currentTick & SLOT_MASK));
+        }
+    }
+
+    /**
+     * Removes every timer from the wheel.
+     */
+    public void clear() {
+        for (Timer[] level : slots) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                while (level[slot] != null) {
+                    unlink(level[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the timers of higher level slots that just came within range down to the lower levels.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            // Only cascade a level when every level below it wrapped around
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Timer timer;
+            // Re-inserted timers always land in another slot, so this terminates
+            while ((timer = slots[level][slot]) != null) {
+                unlink(timer);
+                insert(timer, timer.expiry);
+            }
+        }
+    }
+
+    private void fireSlot(int slot) {
+        Timer timer;
+        // Take timers one at a time, so callbacks can safely cancel or schedule other timers
+        while ((timer = slots[0][slot]) != null) {
+            unlink(timer);
+            if (timer.expiry > currentTick) {
+                // Further away than one turn of the wheel, keep waiting
+                insert(timer, timer.expiry);
+            } else {
+                if (timer.period > 0) {
+                    insert(timer, timer.expiry + timer.period);
+                }
+                timer.callback.run();
+            }
+        }
+    }
+
+    private void insert(Timer timer, long expiry) {
+        // Timers due now run on the next millisecond, the current slot has already been processed
+        expiry = Math.max(expiry, currentTick + 1);
+        timer.expiry = expiry;
+
+        long delta = expiry - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        // Beyond the range of the wheel, wait in the furthest slot and get re-inserted from there
+        long slotTick = level == LEVELS - 1 && delta >= 1L << (SLOT_BITS * LEVELS)
+                ? currentTick + (1L << (SLOT_BITS * LEVELS)) - 1
+                : expiry;
+        int slot = (int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        timer.level = level;
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = slots[level][slot];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        slots[level][slot] = timer;
+        timer.scheduled = true;
+        scheduledCount++;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.scheduled = false;
+        scheduledCount--;
+    }
+
+    private long delayToExpiry(double delay) {
+        return toTick(clock.getTime() + Math.max(0, delay));
+    }
+
+    private static long toTick(double time) {
+        // Small epsilon so that sums of fixed steps landing on a whole millisecond are not rounded down
+        return (long) Math.floor(time * MILLIS_PER_SECOND + 1e-6);
+    }
+}
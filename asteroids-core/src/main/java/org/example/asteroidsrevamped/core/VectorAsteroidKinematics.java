@@ -0,0 +1,80 @@
+package org.example.asteroidsrevamped.core;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Asteroid kinematics on the Vector API, only loaded by {@link AsteroidKinematics#vector()} once the incubator module is
+ * known to be present.
+ *
+ * @author Jose Silva
+ */
+final class VectorAsteroidKinematics extends AsteroidKinematics {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public String getName() {
+        return "vector (" + SPECIES.length() + " lanes)";
+    }
+
+    @Override
+    void integrate(AsteroidField field, double deltaTime, boolean offscreenRotation) {
+        double[] x = field.x;
+        double[] y = field.y;
+        double[] rotation = field.rotation;
+        double[] previousX = field.previousX;
+        double[] previousY = field.previousY;
+        double[] previousRotation = field.previousRotation;
+        double[] velocityX = field.velocityX;
+        double[] velocityY = field.velocityY;
+        double[] rotationSpeed = field.rotationSpeed;
+        double[] size = field.size;
+        int count = field.size();
+
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        DoubleVector width = DoubleVector.broadcast(SPECIES, GameWorld.WIDTH);
+        DoubleVector height = DoubleVector.broadcast(SPECIES, GameWorld.HEIGHT);
+        VectorMask<Double> everyLane = SPECIES.maskAll(true);
+
+        int upperBound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector oldX = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector oldY = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector oldRotation = DoubleVector.fromArray(SPECIES, rotation, i);
+            DoubleVector s = DoubleVector.fromArray(SPECIES, size, i);
+            DoubleVector newX = oldX.add(DoubleVector.fromArray(SPECIES, velocityX, i).mul(deltaTime));
+            DoubleVector newY = oldY.add(DoubleVector.fromArray(SPECIES, velocityY, i).mul(deltaTime));
+
+            // Only rotate what can be seen, unless told otherwise
+            VectorMask<Double> rotating = offscreenRotation ? everyLane
+                    : newX.add(s).compare(VectorOperators.GT, zero)
+                    .and(newX.compare(VectorOperators.LT, width))
+                    .and(newY.add(s).compare(VectorOperators.GT, zero))
+                    .and(newY.compare(VectorOperators.LT, height));
+            DoubleVector newRotation = oldRotation.add(
+                    DoubleVector.fromArray(SPECIES, rotationSpeed, i).mul(deltaTime), rotating);
+
+            // Wrap around when reaching a border, without blending the jump to the other side of the screen
+            DoubleVector minusSize = s.neg();
+            VectorMask<Double> pastRight = newX.compare(VectorOperators.GT, width);
+            VectorMask<Double> pastLeft = newX.compare(VectorOperators.LT, minusSize);
+            VectorMask<Double> pastBottom = newY.compare(VectorOperators.GT, height);
+            VectorMask<Double> pastTop = newY.compare(VectorOperators.LT, minusSize);
+            newX = newX.blend(minusSize, pastRight).blend(width, pastLeft);
+            newY = newY.blend(minusSize, pastBottom).blend(height, pastTop);
+            VectorMask<Double> wrapped = pastRight.or(pastLeft).or(pastBottom).or(pastTop);
+
+            newX.intoArray(x, i);
+            newY.intoArray(y, i);
+            newRotation.intoArray(rotation, i);
+            oldX.blend(newX, wrapped).intoArray(previousX, i);
+            oldY.blend(newY, wrapped).intoArray(previousY, i);
+            oldRotation.blend(newRotation, wrapped).intoArray(previousRotation, i);
+        }
+        AsteroidKinematics.integrateScalar(field, i, deltaTime, offscreenRotation);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.asteroidsrevamped.core;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Laser narrowphase on the Vector API, only loaded by {@link LaserNarrowphase#vector()} once the incubator module is
+ * known to be present.
+ *
+ * @author Jose Silva
+ */
+final class VectorLaserNarrowphase extends LaserNarrowphase {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public String getName() {
+        return "vector (" + SPECIES.length() + " lanes)";
+    }
+
+    @Override
+    long hitMask(double[] centersX, double[] centersY, double[] radii, double[] velocitiesX,
+                 double[] velocitiesY, int from, int count, double laserX, double laserY,
+                 double laserMoveX, double laserMoveY, double laserRadius, double deltaTime) {
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        long mask = 0;
+        int upperBound = SPECIES.loopBound(count);
+        int k = 0;
+        for (; k < upperBound; k += SPECIES.length()) {
+            int i = from + k;
+            // The laser's path in the asteroid's frame, from start to end
+            DoubleVector endX = DoubleVector.fromArray(SPECIES, centersX, i).neg().add(laserX);
+            DoubleVector endY = DoubleVector.fromArray(SPECIES, centersY, i).neg().add(laserY);
+            DoubleVector moveX = DoubleVector.fromArray(SPECIES, velocitiesX, i).mul(-deltaTime).add(laserMoveX);
+            DoubleVector moveY = DoubleVector.fromArray(SPECIES, velocitiesY, i).mul(-deltaTime).add(laserMoveY);
+            DoubleVector startX = endX.sub(moveX);
+            DoubleVector startY = endY.sub(moveY);
+            DoubleVector reach = DoubleVector.fromArray(SPECIES, radii, i).add(laserRadius);
+            DoubleVector reachSquared = reach.mul(reach);
+
+            DoubleVector a = moveX.mul(moveX).add(moveY.mul(moveY));
+            DoubleVector b = startX.mul(moveX).add(startY.mul(moveY));
+            DoubleVector startSquared = startX.mul(startX).add(startY.mul(startY));
+            DoubleVector endSquared = endX.mul(endX).add(endY.mul(endY));
+            // Either end within reach, or the closest point between them, |start|^2 - b^2 / a, times a
+            VectorMask<Double> closestBetween = b.compare(VectorOperators.LT, zero)
+                    .and(a.add(b).compare(VectorOperators.GT, zero));
+            VectorMask<Double> hit = startSquared.compare(VectorOperators.LE, reachSquared)
+                    .or(endSquared.compare(VectorOperators.LE, reachSquared))
+                    .or(a.mul(startSquared).sub(b.mul(b)).compare(VectorOperators.LE, a.mul(reachSquared))
+                            .and(closestBetween));
+            mask |= hit.toLong() << k;
+        }
+        return mask | LaserNarrowphase.hitMaskScalar(centersX, centersY, radii, velocitiesX, velocitiesY, from, k,
+                count, laserX, laserY, laserMoveX, laserMoveY, laserRadius, deltaTime);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.asteroidsrevamped.core;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the little endian file written by {@link WorldExporter} and read by {@link WorldExportReader}, for tools in
+ * any language. The sequence is a seqlock, odd while the game writes a frame and even once it is complete.
+ *
+ * @author Jose Silva
+ */
+public final class WorldExportLayout {
+
+    // "ASTX"
+    public static final int MAGIC = 0x41535458;
+    public static final int VERSION = 1;
+
+    // Layouts of the values, in the byte order of the file rather than the platform's
+    public static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    public static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    public static final ValueLayout.OfDouble DOUBLE =
+            ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    // Header: magic, version, capacity and record size as ints, then the sequence, the simulated time in seconds,
+    // score, lives, level, 1 if the game is over, the number of entities written and the ammunition from 0 to 1
+    public static final long MAGIC_OFFSET = 0;
+    public static final long VERSION_OFFSET = 4;
+    public static final long CAPACITY_OFFSET = 8;
+    public static final long RECORD_SIZE_OFFSET = 12;
+    public static final long SEQUENCE_OFFSET = 16;
+    public static final long TIME_OFFSET = 24;
+    public static final long SCORE_OFFSET = 32;
+    public static final long LIVES_OFFSET = 36;
+    public static final long LEVEL_OFFSET = 40;
+    public static final long GAME_OVER_OFFSET = 44;
+    public static final long ENTITY_COUNT_OFFSET = 48;
+    public static final long AMMUNITION_OFFSET = 56;
+    public static final long HEADER_SIZE = 64;
+
+    // Entity record, relative to the start of the record: kind, archetype index of asteroids or -1, top-left corner,
+    // rotation in degrees and hit points, 0 for entities without any
+    public static final long KIND_OFFSET = 0;
+    public static final long TYPE_OFFSET = 4;
+    public static final long X_OFFSET = 8;
+    public static final long Y_OFFSET = 16;
+    public static final long ROTATION_OFFSET = 24;
+    public static final long HIT_POINTS_OFFSET = 32;
+    public static final long RECORD_SIZE = 40;
+
+    // Entity kinds
+    public static final int KIND_SPACESHIP = 0;
+    public static final int KIND_LASER = 1;
+    public static final int KIND_ASTEROID = 2;
+    public static final int KIND_OTHER = 3;
+
+    private WorldExportLayout() {
+    }
+
+    /**
+     * Gets the size of a file holding a number of entities.
+     *
+     * @param capacity The number of entity records.
+     * @return The size of the file in bytes.
+     */
+    public static long fileSize(int capacity) {
+        return HEADER_SIZE + capacity * RECORD_SIZE;
+    }
+
+    /**
+     * Gets where an entity record starts.
+     *
+     * @param i The index of the record.
+     * @return The offset of the record from the start of the file.
+     */
+    public static long recordOffset(int i) {
+        return HEADER_SIZE + i * RECORD_SIZE;
+    }
+}
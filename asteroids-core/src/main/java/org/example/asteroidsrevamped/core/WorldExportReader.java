@@ -0,0 +1,280 @@
+package org.example.asteroidsrevamped.core;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.VarHandle;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.example.asteroidsrevamped.core.WorldExportLayout.DOUBLE;
+import static org.example.asteroidsrevamped.core.WorldExportLayout.INT;
+import static org.example.asteroidsrevamped.core.WorldExportLayout.LONG;
+
+/**
+ * Reads the frames written by a {@link WorldExporter}, from another thread or another process, without ever blocking
+ * the game.
+ *
+ * @author Jose Silva
+ */
+public class WorldExportReader {
+
+    /**
+     * Returned by {@link #read(Frame)} when the game stopped in the middle of writing a frame.
+     */
+    public static final long WRITER_STALLED = -1;
+
+    private static final long PRINT_INTERVAL_MILLIS = 1000;
+    // How long the game may leave a frame half written before a read gives up on it
+    private static final long STALL_TIMEOUT_NANOS = 1_000_000_000L;
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int capacity;
+
+    /**
+     * A copy of one frame. Reused between reads, the arrays are sized for the capacity of the file.
+     */
+    public static final class Frame {
+        private long sequence;
+        private double time;
+        private int score;
+        private int lives;
+        private int level;
+        private boolean gameOver;
+        private double ammunition;
+        private int entityCount;
+        private int[] kinds = new int[0];
+        private int[] types = new int[0];
+        private double[] x = new double[0];
+        private double[] y = new double[0];
+        private double[] rotation = new double[0];
+        private int[] hitPoints = new int[0];
+
+        /**
+         * Creates an empty frame, sized by the first read.
+         */
+        public Frame() {
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (kinds.length < capacity) {
+                kinds = Arrays.copyOf(kinds, capacity);
+                types = Arrays.copyOf(types, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                rotation = Arrays.copyOf(rotation, capacity);
+                hitPoints = Arrays.copyOf(hitPoints, capacity);
+            }
+        }
+
+        /**
+         * Gets the number of frames the game had exported when this one was written, counting from 1.
+         *
+         * @return The frame number, 0 if no frame was exported yet.
+         */
+        public long getFrameNumber() {
+            return sequence / 2;
+        }
+
+        public double getTime() {
+            return time;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public int getLives() {
+            return lives;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public boolean isGameOver() {
+            return gameOver;
+        }
+
+        public double getAmmunition() {
+            return ammunition;
+        }
+
+        public int getEntityCount() {
+            return entityCount;
+        }
+
+        /**
+         * Gets what an entity is.
+         *
+         * @param i The index of the entity in the frame.
+         * @return One of the kinds in {@link WorldExportLayout}.
+         */
+        public int getKind(int i) {
+            return kinds[i];
+        }
+
+        /**
+         * Gets the type of an entity.
+         *
+         * @param i The index of the entity in the frame.
+         * @return The archetype index of an asteroid, -1 for other entities.
+         */
+        public int getType(int i) {
+            return types[i];
+        }
+
+        public double getX(int i) {
+            return x[i];
+        }
+
+        public double getY(int i) {
+            return y[i];
+        }
+
+        public double getRotation(int i) {
+            return rotation[i];
+        }
+
+        public int getHitPoints(int i) {
+            return hitPoints[i];
+        }
+    }
+
+    /**
+     * Maps an export file for reading.
+     *
+     * @param file The file written by the game.
+     * @throws IOException If the file can't be mapped, or isn't a complete export file.
+     */
+    public WorldExportReader(Path file) throws IOException {
+        this.arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < WorldExportLayout.HEADER_SIZE) {
+                throw new IOException("Not a game export file: " + file);
+            }
+            this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            int magic = segment.get(INT, WorldExportLayout.MAGIC_OFFSET);
+            VarHandle.acquireFence();
+            int version = segment.get(INT, WorldExportLayout.VERSION_OFFSET);
+            this.capacity = segment.get(INT, WorldExportLayout.CAPACITY_OFFSET);
+            if (magic != WorldExportLayout.MAGIC || version != WorldExportLayout.VERSION
+                    || size < WorldExportLayout.fileSize(capacity)) {
+                throw new IOException("Not a game export file of version " + WorldExportLayout.VERSION + ": " + file);
+            }
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Copies the latest complete frame, retrying while the game is writing one.
+     * Gives up if the game leaves a frame half written for a second, for example because it died while writing it.
+     *
+     * @param frame The frame to copy into.
+     * @return The frame number read, 0 if the game hasn't exported any frame yet, or {@link #WRITER_STALLED} if the
+     *         game stopped in the middle of a frame. The frame may then be incomplete.
+     */
+    public long read(Frame frame) {
+        frame.ensureCapacity(capacity);
+        long stalledSequence = -1;
+        long stallDeadline = 0;
+        while (true) {
+            long before = segment.get(LONG, WorldExportLayout.SEQUENCE_OFFSET);
+            if ((before & 1) != 0) {
+                // The game is in the middle of a frame, give up if it doesn't get to the next one in time
+                if (before != stalledSequence) {
+                    stalledSequence = before;
+                    stallDeadline = System.nanoTime() + STALL_TIMEOUT_NANOS;
+                } else if (System.nanoTime() - stallDeadline > 0) {
+                    return WRITER_STALLED;
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+            VarHandle.acquireFence();
+            copy(frame);
+            VarHandle.acquireFence();
+            long after = segment.get(LONG, WorldExportLayout.SEQUENCE_OFFSET);
+            if (before == after) {
+                frame.sequence = before;
+                return frame.getFrameNumber();
+            }
+        }
+    }
+
+    private void copy(Frame frame) {
+        frame.time = segment.get(DOUBLE, WorldExportLayout.TIME_OFFSET);
+        frame.score = segment.get(INT, WorldExportLayout.SCORE_OFFSET);
+        frame.lives = segment.get(INT, WorldExportLayout.LIVES_OFFSET);
+        frame.level = segment.get(INT, WorldExportLayout.LEVEL_OFFSET);
+        frame.gameOver = segment.get(INT, WorldExportLayout.GAME_OVER_OFFSET) != 0;
+        frame.ammunition = segment.get(DOUBLE, WorldExportLayout.AMMUNITION_OFFSET);
+        // Torn reads are thrown away, but must not index past the records meanwhile
+        int count = Math.clamp(segment.get(INT, WorldExportLayout.ENTITY_COUNT_OFFSET), 0, capacity);
+        frame.entityCount = count;
+        for (int i = 0; i < count; i++) {
+            long record = WorldExportLayout.recordOffset(i);
+            frame.kinds[i] = segment.get(INT, record + WorldExportLayout.KIND_OFFSET);
+            frame.types[i] = segment.get(INT, record + WorldExportLayout.TYPE_OFFSET);
+            frame.x[i] = segment.get(DOUBLE, record + WorldExportLayout.X_OFFSET);
+            frame.y[i] = segment.get(DOUBLE, record + WorldExportLayout.Y_OFFSET);
+            frame.rotation[i] = segment.get(DOUBLE, record + WorldExportLayout.ROTATION_OFFSET);
+            frame.hitPoints[i] = segment.get(INT, record + WorldExportLayout.HIT_POINTS_OFFSET);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Unmaps the file.
+     */
+    public void cleanup() {
+        arena.close();
+    }
+
+    /**
+     * Follows a game, printing the latest frame every second.
+     *
+     * @param args The export file, asteroids-export.bin by default.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path file = Path.of(args.length > 0 ? args[0] : "asteroids-export.bin");
+        WorldExportReader reader = new WorldExportReader(file);
+        Frame frame = new Frame();
+        long lastFrame = 0;
+        try {
+            while (true) {
+                long frameNumber = reader.read(frame);
+                if (frameNumber == WRITER_STALLED) {
+                    System.out.println("The game stopped in the middle of a frame");
+                    Thread.sleep(PRINT_INTERVAL_MILLIS);
+                    continue;
+                }
+                int asteroids = 0;
+                int lasers = 0;
+                for (int i = 0; i < frame.getEntityCount(); i++) {
+                    if (frame.getKind(i) == WorldExportLayout.KIND_ASTEROID) {
+                        asteroids++;
+                    } else if (frame.getKind(i) == WorldExportLayout.KIND_LASER) {
+                        lasers++;
+                    }
+                }
+                System.out.printf("Frame %d (%d new) at %.1fs: level %d, score %d, lives %d, %d asteroids, %d lasers%s%n",
+                        frameNumber, frameNumber - lastFrame, frame.getTime(), frame.getLevel(), frame.getScore(),
+                        frame.getLives(), asteroids, lasers, frame.isGameOver() ? ", game over" : "");
+                lastFrame = frameNumber;
+                Thread.sleep(PRINT_INTERVAL_MILLIS);
+            }
+        } finally {
+            reader.cleanup();
+        }
+    }
+}
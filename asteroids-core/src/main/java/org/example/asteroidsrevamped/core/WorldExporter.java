@@ -0,0 +1,123 @@
+package org.example.asteroidsrevamped.core;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.VarHandle;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.example.asteroidsrevamped.core.WorldExportLayout.DOUBLE;
+import static org.example.asteroidsrevamped.core.WorldExportLayout.INT;
+import static org.example.asteroidsrevamped.core.WorldExportLayout.LONG;
+
+/**
+ * Writes the world state into a memory-mapped file guarded by a seqlock, for other processes to follow the game live
+ * without ever making it wait. See {@link WorldExportLayout} for the format.
+ *
+ * @author Jose Silva
+ */
+public class WorldExporter {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Path file;
+    private final int capacity;
+    // Closed by cleanup, unmapping the file
+    private final Arena arena;
+    private final MemorySegment segment;
+    // Last sequence written, even between frames
+    private long sequence;
+
+    /**
+     * Creates or overwrites the export file and maps it.
+     *
+     * @param file The file to write to.
+     * @param capacity The largest number of entities exported per frame, the others are left out.
+     * @throws IOException If the file can't be created or mapped.
+     */
+    public WorldExporter(Path file, int capacity) throws IOException {
+        this.file = file;
+        this.capacity = capacity;
+        this.arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, WorldExportLayout.fileSize(capacity), arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+        segment.set(INT, WorldExportLayout.VERSION_OFFSET, WorldExportLayout.VERSION);
+        segment.set(INT, WorldExportLayout.CAPACITY_OFFSET, capacity);
+        segment.set(INT, WorldExportLayout.RECORD_SIZE_OFFSET, (int) WorldExportLayout.RECORD_SIZE);
+        segment.set(LONG, WorldExportLayout.SEQUENCE_OFFSET, 0);
+        // Readers check the magic number last, so they never see a half written header
+        VarHandle.releaseFence();
+        segment.set(INT, WorldExportLayout.MAGIC_OFFSET, WorldExportLayout.MAGIC);
+        System.out.println("Exporting the game to " + file.toAbsolutePath());
+    }
+
+    /**
+     * Writes a snapshot of the world as the latest frame. Only called from the thread stepping the simulation.
+     *
+     * @param snapshot The world state to export.
+     * @param time The simulated time of the snapshot, in seconds.
+     */
+    public void export(WorldSnapshot snapshot, double time) {
+        // Odd: frame being written
+        segment.set(LONG, WorldExportLayout.SEQUENCE_OFFSET, ++sequence);
+        VarHandle.releaseFence();
+
+        int count = Math.min(snapshot.getEntityCount(), capacity);
+        segment.set(DOUBLE, WorldExportLayout.TIME_OFFSET, time);
+        segment.set(INT, WorldExportLayout.SCORE_OFFSET, snapshot.getScore());
+        segment.set(INT, WorldExportLayout.LIVES_OFFSET, snapshot.getLives());
+        segment.set(INT, WorldExportLayout.LEVEL_OFFSET, snapshot.getLevel());
+        segment.set(INT, WorldExportLayout.GAME_OVER_OFFSET, snapshot.isGameOver() ? 1 : 0);
+        segment.set(INT, WorldExportLayout.ENTITY_COUNT_OFFSET, count);
+        segment.set(DOUBLE, WorldExportLayout.AMMUNITION_OFFSET, snapshot.getAmmunition());
+        for (int i = 0; i < count; i++) {
+            long record = WorldExportLayout.recordOffset(i);
+            Entity entity = snapshot.getEntity(i);
+            int kind;
+            int type = -1;
+            switch (entity) {
+                case Spaceship spaceship -> kind = WorldExportLayout.KIND_SPACESHIP;
+                case Laser laser -> kind = WorldExportLayout.KIND_LASER;
+                case Asteroid asteroid -> {
+                    kind = WorldExportLayout.KIND_ASTEROID;
+                    type = asteroid.getArchetype().getIndex();
+                }
+                default -> kind = WorldExportLayout.KIND_OTHER;
+            }
+            segment.set(INT, record + WorldExportLayout.KIND_OFFSET, kind);
+            segment.set(INT, record + WorldExportLayout.TYPE_OFFSET, type);
+            segment.set(DOUBLE, record + WorldExportLayout.X_OFFSET, snapshot.getCurrentX(i));
+            segment.set(DOUBLE, record + WorldExportLayout.Y_OFFSET, snapshot.getCurrentY(i));
+            segment.set(DOUBLE, record + WorldExportLayout.ROTATION_OFFSET,
+                    snapshot.getCurrentRotation(i));
+            segment.set(INT, record + WorldExportLayout.HIT_POINTS_OFFSET, snapshot.getHitPoints(i));
+        }
+
+        // Even: frame complete
+        VarHandle.releaseFence();
+        segment.set(LONG, WorldExportLayout.SEQUENCE_OFFSET, ++sequence);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Unmaps the file. Readers keep the last frame that was written.
+     */
+    public void cleanup() {
+        arena.close();
+        System.out.println("WorldExporter cleanup complete");
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.Arrays;
+
+/**
+ * Copy of the world state produced by one simulation step, read by the front end to draw the game.
+ * Snapshots are reused, so their arrays only grow and are never reallocated in steady play.
+ *
+ * @author Jose Silva
+ */
+public class WorldSnapshot {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    // Entities captured in this snapshot, and their state at the previous and the current step
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] previousRotation = new double[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] rotation = new double[INITIAL_CAPACITY];
+    // Position of the collision bounds, used to draw them when debugging
+    private double[] boundsX = new double[INITIAL_CAPACITY];
+    private double[] boundsY = new double[INITIAL_CAPACITY];
+    private int[] hitPoints = new int[INITIAL_CAPACITY];
+    private int entityCount;
+
+    // Heads-up display state
+    private int score;
+    private int lives;
+    private int level;
+    private double ammunition;
+    private boolean gameOver;
+
+    // Time at which the snapshot was published (System.nanoTime), and its publishing order
+    private long publishTime;
+    private long sequence;
+    // Length of the step that produced the snapshot, in seconds
+    private double timeStep;
+
+    /**
+     * Creates an empty snapshot, growing as entities are added.
+     */
+    public WorldSnapshot() {
+    }
+
+    /**
+     * Removes every entity from the snapshot so that it can be filled again.
+     */
+    public void clear() {
+        Arrays.fill(entities, 0, entityCount, null);
+        entityCount = 0;
+    }
+
+    /**
+     * Copies the state of an entity into the snapshot.
+     *
+     * @param entity The entity to capture.
+     * @param entityHitPoints The remaining hit points of the entity, or 0 if it has none.
+     */
+    public void addEntity(Entity entity, int entityHitPoints) {
+        addEntity(entity, entity.previousX, entity.previousY, entity.previousRotation, entity.x, entity.y, entity.rotation,
+                entity.boundsX, entity.boundsY, entityHitPoints);
+    }
+
+    /**
+     * Adds an entity whose state is stored outside of it.
+     *
+     * @param entity The entity to capture, used to identify it when rendering.
+     * @param entityPreviousX The x-coordinate at the previous step.
+     * @param entityPreviousY The y-coordinate at the previous step.
+     * @param entityPreviousRotation The rotation at the previous step, in degrees.
+     * @param entityX The x-coordinate at the current step.
+     * @param entityY The y-coordinate at the current step.
+     * @param entityRotation The rotation at the current step, in degrees.
+     * @param entityBoundsX The x-coordinate of the collision bounds.
+     * @param entityBoundsY The y-coordinate of the collision bounds.
+     * @param entityHitPoints The remaining hit points of the entity, or 0 if it has none.
+     */
+    public void addEntity(Entity entity, double entityPreviousX, double entityPreviousY, double entityPreviousRotation,
+                          double entityX, double entityY, double entityRotation,
+                          double entityBoundsX, double entityBoundsY, int entityHitPoints) {
+        if (entityCount == entities.length) {
+            grow();
+        }
+        int i = entityCount++;
+        entities[i] = entity;
+        previousX[i] = entityPreviousX;
+        previousY[i] = entityPreviousY;
+        previousRotation[i] = entityPreviousRotation;
+        x[i] = entityX;
+        y[i] = entityY;
+        rotation[i] = entityRotation;
+        boundsX[i] = entityBoundsX;
+        boundsY[i] = entityBoundsY;
+        hitPoints[i] = entityHitPoints;
+    }
+
+    /**
+     * Copies the heads-up display state into the snapshot.
+     *
+     * @param score The player's score.
+     * @param lives The player's remaining lives.
+     * @param level The current level.
+     * @param ammunition The share of lasers ready to be fired, from 0 to 1.
+     * @param gameOver Whether the game has ended.
+     */
+    public void setHud(int score, int lives, int level, double ammunition, boolean gameOver) {
+        this.score = score;
+        this.lives = lives;
+        this.level = level;
+        this.ammunition = ammunition;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Stamps the snapshot right before it is handed over to the renderer.
+     *
+     * @param publishTime The current System.nanoTime().
+     * @param sequence The publishing order of this snapshot.
+     * @param timeStep The length of the step that produced the snapshot, in seconds.
+     */
+    void markPublished(long publishTime, long sequence, double timeStep) {
+        this.publishTime = publishTime;
+        this.sequence = sequence;
+        this.timeStep = timeStep;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        previousRotation = Arrays.copyOf(previousRotation, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        boundsX = Arrays.copyOf(boundsX, capacity);
+        boundsY = Arrays.copyOf(boundsY, capacity);
+        hitPoints = Arrays.copyOf(hitPoints, capacity);
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    public Entity getEntity(int i) {
+        return entities[i];
+    }
+
+    /**
+     * Gets the x-coordinate of an entity blended between the previous and the current step.
+     *
+     * @param i The index of the entity in the snapshot.
+     * @param alpha The interpolation factor, from 0 to 1.
+     * @return The blended x-coordinate.
+     */
+    public double getX(int i, double alpha) {
+        return previousX[i] + (x[i] - previousX[i]) * alpha;
+    }
+
+    /**
+     * Gets the y-coordinate of an entity blended between the previous and the current step.
+     *
+     * @param i The index of the entity in the snapshot.
+     * @param alpha The interpolation factor, from 0 to 1.
+     * @return The blended y-coordinate.
+     */
+    public double getY(int i, double alpha) {
+        return previousY[i] + (y[i] - previousY[i]) * alpha;
+    }
+
+    /**
+     * Gets the rotation of an entity blended between the previous and the current step.
+     *
+     * @param i The index of the entity in the snapshot.
+     * @param alpha The interpolation factor, from 0 to 1.
+     * @return The blended rotation in degrees.
+     */
+    public double getRotation(int i, double alpha) {
+        return previousRotation[i] + (rotation[i] - previousRotation[i]) * alpha;
+    }
+
+    public double getBoundsX(int i) {
+        return boundsX[i];
+    }
+
+    public double getBoundsY(int i) {
+        return boundsY[i];
+    }
+
+    public double getCurrentX(int i) {
+        return x[i];
+    }
+
+    public double getCurrentY(int i) {
+        return y[i];
+    }
+
+    public double getCurrentRotation(int i) {
+        return rotation[i];
+    }
+
+    public int getHitPoints(int i) {
+        return hitPoints[i];
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public double getAmmunition() {
+        return ammunition;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getPublishTime() {
+        return publishTime;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the length of the step that produced the snapshot, which the tick rate may have changed since.
+     *
+     * @return The step length, in seconds.
+     */
+    public double getTimeStep() {
+        return timeStep;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Times moving asteroids and bouncing them off each other on fields of growing size, and checks the bounces keep the
+ * momentum and energy of the field.
+ *
+ * @author Jose Silva
+ */
+public class AsteroidCollisionBenchmark {
+
+    // Asteroid updates per measurement, split in as many ticks as the field size allows
+    private static final long UPDATES_PER_RUN = 20_000_000L;
+    // Ticks to let the asteroids placed on top of each other at the start settle, and to warm up
+    private static final int WARMUP_TICKS = 500;
+    private static final double TIME_STEP = TickRate.HZ_240.getTimeStep();
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The field sizes, 250 to 16000 asteroids by default.
+     */
+    public static void main(String[] args) {
+        double cellSize = BenchmarkFields.largestAsteroidSize();
+        for (int size : BenchmarkFields.sizes(args, 250, 500, 1_000, 2_000, 4_000, 8_000, 16_000)) {
+            double width = BenchmarkFields.crowdedWidth(size);
+            double height = BenchmarkFields.crowdedHeight(size);
+            AsteroidField field = BenchmarkFields.createField(size, 0, 0, width, height);
+            AsteroidCollisions collisions = new AsteroidCollisions(width, height, cellSize);
+            int ticks = (int) Math.max(100, UPDATES_PER_RUN / size);
+
+            for (int tick = 0; tick < WARMUP_TICKS; tick++) {
+                tick(field, collisions, width, height);
+            }
+            double[] before = momentumAndEnergy(field);
+            long contacts = 0;
+            long start = System.nanoTime();
+            for (int tick = 0; tick < ticks; tick++) {
+                contacts += tick(field, collisions, width, height);
+            }
+            long elapsed = System.nanoTime() - start;
+            double[] after = momentumAndEnergy(field);
+
+            System.out.printf("%,7d asteroids: %,10.0f ticks per second, %6.1f ns per asteroid and tick, "
+                            + "%6.1f contacts per tick, momentum drift %.1e, energy drift %.1e%n", size,
+                    ticks * 1e9 / elapsed, (double) elapsed / ticks / size, (double) contacts / ticks,
+                    Math.hypot(after[0] - before[0], after[1] - before[1]) / before[3],
+                    Math.abs(after[2] - before[2]) / before[2]);
+        }
+    }
+
+    /**
+     * Moves every asteroid, wrapping around the edges of the world, then bounces them off each other.
+     * The game's kinematics wrap around the screen, which is too small for these fields.
+     *
+     * @return The number of pairs that overlapped.
+     */
+    private static int tick(AsteroidField field, AsteroidCollisions collisions, double width, double height) {
+        double[] x = field.x;
+        double[] y = field.y;
+        for (int i = 0; i < field.size(); i++) {
+            x[i] = wrap(x[i] + field.velocityX[i] * TIME_STEP, width);
+            y[i] = wrap(y[i] + field.velocityY[i] * TIME_STEP, height);
+        }
+        return collisions.resolve(field);
+    }
+
+    private static double wrap(double position, double length) {
+        return position < 0 ? position + length : position >= length ? position - length : position;
+    }
+
+    /**
+     * Adds up the momentum and the energy of motion of every asteroid, each weighing as much as its area.
+     *
+     * @return The momentum along x and y, the energy, and the sum of the momentum of every asteroid.
+     */
+    private static double[] momentumAndEnergy(AsteroidField field) {
+        double momentumX = 0;
+        double momentumY = 0;
+        double energy = 0;
+        double momentumSum = 0;
+        for (int i = 0; i < field.size(); i++) {
+            double mass = field.size[i] * field.size[i];
+            double velocityX = field.velocityX[i];
+            double velocityY = field.velocityY[i];
+            momentumX += mass * velocityX;
+            momentumY += mass * velocityY;
+            double speedSquared = velocityX * velocityX + velocityY * velocityY;
+            energy += mass * speedSquared / 2;
+            momentumSum += mass * Math.sqrt(speedSquared);
+        }
+        return new double[] {momentumX, momentumY, energy, momentumSum};
+    }
+}
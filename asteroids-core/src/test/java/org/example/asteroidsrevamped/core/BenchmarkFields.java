@@ -0,0 +1,91 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded asteroid fields and field sizes shared by the benchmarks, so that they all run on the same kind of fields.
+ *
+ * @author Jose Silva
+ */
+final class BenchmarkFields {
+
+    static final long SEED = 42;
+    // Screen area per asteroid, about 24 asteroids on the 1080x800 screen
+    private static final double AREA_PER_ASTEROID = GameWorld.WIDTH * GameWorld.HEIGHT / 24;
+
+    private BenchmarkFields() {
+    }
+
+    /**
+     * Gets the field sizes given on the command line.
+     *
+     * @param args The command line arguments, field sizes if any.
+     * @param defaultSizes The sizes to use when none is given.
+     * @return The field sizes.
+     */
+    static int[] sizes(String[] args, int... defaultSizes) {
+        return args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : defaultSizes;
+    }
+
+    /**
+     * Fills a field with asteroids of every type in turn, moving at their speed in random directions, at random
+     * places within the given bounds. The same arguments always give the same field.
+     *
+     * @param size The number of asteroids.
+     * @param minX The smallest x-coordinate of an asteroid.
+     * @param minY The smallest y-coordinate of an asteroid.
+     * @param maxX The x-coordinate asteroids stay below.
+     * @param maxY The y-coordinate asteroids stay below.
+     * @return The field, with a registry of its own.
+     */
+    static AsteroidField createField(int size, double minX, double minY, double maxX, double maxY) {
+        AsteroidArchetypes archetypes = AsteroidArchetypes.getDefault();
+        SplittableRandom random = new SplittableRandom(SEED);
+        AsteroidField field = new AsteroidField(new EntityRegistry());
+        for (int i = 0; i < size; i++) {
+            Asteroid asteroid = new Asteroid(archetypes.get(i % archetypes.size()));
+            double heading = random.nextDouble(2 * Math.PI);
+            double speed = asteroid.getArchetype().getSpeed();
+            asteroid.setVelocity(Math.cos(heading) * speed, Math.sin(heading) * speed);
+            field.add(asteroid, random.nextDouble(minX, maxX), random.nextDouble(minY, maxY));
+        }
+        return field;
+    }
+
+    /**
+     * Gets the width of a world, shaped like the screen, in which a number of asteroids are as crowded as in a late
+     * level.
+     *
+     * @param size The number of asteroids.
+     * @return The width of the world.
+     */
+    static double crowdedWidth(int size) {
+        return Math.sqrt(size * AREA_PER_ASTEROID * GameWorld.WIDTH / GameWorld.HEIGHT);
+    }
+
+    /**
+     * Gets the height of a world, shaped like the screen, in which a number of asteroids are as crowded as in a late
+     * level.
+     *
+     * @param size The number of asteroids.
+     * @return The height of the world.
+     */
+    static double crowdedHeight(int size) {
+        return Math.sqrt(size * AREA_PER_ASTEROID * GameWorld.HEIGHT / GameWorld.WIDTH);
+    }
+
+    /**
+     * Gets the size of the largest asteroid type, the cell size of a grid over any field.
+     *
+     * @return The largest asteroid size.
+     */
+    static double largestAsteroidSize() {
+        AsteroidArchetypes archetypes = AsteroidArchetypes.getDefault();
+        double largest = 0;
+        for (int i = 0; i < archetypes.size(); i++) {
+            largest = Math.max(largest, archetypes.get(i).getSize());
+        }
+        return largest;
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Times finding every pair of overlapping asteroids, with the spatial grid and by testing every pair, on fields of
+ * growing size. Both must find the same pairs.
+ *
+ * @author Jose Silva
+ */
+public class BroadphaseBenchmark {
+
+    // Pair tests per measurement, split in as many passes as the field size allows
+    private static final long PAIR_TESTS_PER_RUN = 200_000_000L;
+    private static final int WARMUP_RUNS = 2;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args The field sizes, 250 to 16000 asteroids by default.
+     */
+    public static void main(String[] args) {
+        double cellSize = BenchmarkFields.largestAsteroidSize();
+        for (int size : BenchmarkFields.sizes(args, 250, 500, 1_000, 2_000, 4_000, 8_000, 16_000)) {
+            double width = BenchmarkFields.crowdedWidth(size);
+            double height = BenchmarkFields.crowdedHeight(size);
+            AsteroidField field = BenchmarkFields.createField(size, 0, 0, width, height);
+            SpatialGrid grid = new SpatialGrid(width, height, cellSize);
+            int passes = (int) Math.max(1, PAIR_TESTS_PER_RUN / ((long) size * size / 2));
+
+            int gridPairs = 0;
+            int bruteForcePairs = 0;
+            for (int run = 0; run < WARMUP_RUNS; run++) {
+                gridPairs = gridPairs(field, grid);
+                bruteForcePairs = bruteForcePairs(field);
+            }
+            long start = System.nanoTime();
+            for (int pass = 0; pass < passes; pass++) {
+                gridPairs = gridPairs(field, grid);
+            }
+            double gridNanos = (double) (System.nanoTime() - start) / passes / size;
+            start = System.nanoTime();
+            for (int pass = 0; pass < passes; pass++) {
+                bruteForcePairs = bruteForcePairs(field);
+            }
+            double bruteForceNanos = (double) (System.nanoTime() - start) / passes / size;
+
+            System.out.printf("%,7d asteroids (%dx%d cells): grid %8.1f ns per asteroid, every pair %9.1f ns per asteroid, "
+                            + "%.1fx faster, %d overlapping pairs%s%n", size, grid.getColumns(), grid.getRows(),
+                    gridNanos, bruteForceNanos, bruteForceNanos / gridNanos, gridPairs,
+                    gridPairs == bruteForcePairs ? "" : ", PAIRS DIFFER (" + bruteForcePairs + ")");
+        }
+    }
+
+    /**
+     * Counts the overlapping pairs among the candidates the grid returns for each asteroid.
+     */
+    private static int gridPairs(AsteroidField field, SpatialGrid grid) {
+        grid.build(field);
+        int pairs = 0;
+        for (int i = 0; i < field.size(); i++) {
+            double x = field.getCenterX(i);
+            double y = field.getCenterY(i);
+            double radius = field.getRadius(i);
+            int candidates = grid.query(x, y, radius);
+            for (int c = 0; c < candidates; c++) {
+                int j = grid.getCandidate(c);
+                // Each pair is found from both sides, count it once
+                if (j > i && CollisionDetector.didCirclesCollide(x, y, radius,
+                        field.getCenterX(j), field.getCenterY(j), field.getRadius(j))) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static int bruteForcePairs(AsteroidField field) {
+        int pairs = 0;
+        for (int i = 0; i < field.size(); i++) {
+            double x = field.getCenterX(i);
+            double y = field.getCenterY(i);
+            double radius = field.getRadius(i);
+            for (int j = i + 1; j < field.size(); j++) {
+                if (CollisionDetector.didCirclesCollide(x, y, radius,
+                        field.getCenterX(j), field.getCenterY(j), field.getRadius(j))) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.asteroidsrevamped.core;
+
+/**
+ * Times the asteroid kinematics, scalar against vector, and checks both leave every asteroid at exactly the same place.
+ *
+ * @author Jose Silva
+ */
+public class KinematicsBenchmark {
+
+    // Asteroid updates per measurement, split in as many steps as the field size allows
+    private static final long UPDATES_PER_RUN = 50_000_000L;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+    private static final double TIME_STEP = TickRate.HZ_240.getTimeStep();
+
+    /**
+     * Runs the benchmark, with the incubator module added to time the vector implementation.
+     *
+     * @param args The field sizes, 1000, 10000 and 100000 asteroids by default.
+     */
+    public static void main(String[] args) {
+        AsteroidKinematics scalar = AsteroidKinematics.scalar();
+        AsteroidKinematics vector = AsteroidKinematics.vector();
+        if (vector == null) {
+            System.out.println("jdk.incubator.vector is not present, only timing the scalar kinematics "
+                    + "(start the JVM with --add-modules jdk.incubator.vector)");
+        }
+
+        for (int size : BenchmarkFields.sizes(args, 1_000, 10_000, 100_000)) {
+            int steps = (int) Math.max(1, UPDATES_PER_RUN / size);
+            AsteroidField scalarField = createField(size, scalar);
+            double scalarNanos = time(scalarField, steps);
+            System.out.printf("%,8d asteroids, %-20s %6.2f ns per asteroid and step%n", size, scalar.getName(),
+                    scalarNanos);
+            if (vector == null) {
+                continue;
+            }
+
+            AsteroidField vectorField = createField(size, vector);
+            double vectorNanos = time(vectorField, steps);
+            System.out.printf("%,8d asteroids, %-20s %6.2f ns per asteroid and step, %.2fx faster%s%n", size,
+                    vector.getName(), vectorNanos, scalarNanos / vectorNanos,
+                    sameState(scalarField, vectorField) ? "" : ", RESULTS DIFFER");
+        }
+    }
+
+    /**
+     * Fills a field with asteroids all over the screen and around it, always in the same way.
+     */
+    private static AsteroidField createField(int size, AsteroidKinematics kinematics) {
+        AsteroidField field = BenchmarkFields.createField(size, -200, -200, GameWorld.WIDTH + 200,
+                GameWorld.HEIGHT + 200);
+        field.setKinematics(kinematics);
+        return field;
+    }
+
+    /**
+     * Runs the field for a few warm-up runs, then gives the average time of the measured runs.
+     *
+     * @return The time per asteroid and step, in nanoseconds.
+     */
+    private static double time(AsteroidField field, int steps) {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            run(field, steps);
+        }
+        long start = System.nanoTime();
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            run(field, steps);
+        }
+        return (double) (System.nanoTime() - start) / ((long) MEASURED_RUNS * steps * field.size());
+    }
+
+    private static void run(AsteroidField field, int steps) {
+        for (int step = 0; step < steps; step++) {
+            // Alternate both rotation modes so each branch of the kinematics is timed
+            field.update(TIME_STEP, (step & 1) == 0);
+        }
+    }
+
+    private static boolean sameState(AsteroidField a, AsteroidField b) {
+        for (int i = 0; i < a.size(); i++) {
+            if (a.getX(i) != b.getX(i) || a.getY(i) != b.getY(i) || a.getRotation(i) != b.getRotation(i)
+                    || a.previousX[i] != b.previousX[i] || a.previousY[i] != b.previousY[i]
+                    || a.previousRotation[i] != b.previousRotation[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
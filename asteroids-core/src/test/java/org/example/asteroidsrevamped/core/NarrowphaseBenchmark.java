@@ -0,0 +1,134 @@
+package org.example.asteroidsrevamped.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Times testing lasers against every asteroid of a field, one at a time and in packed blocks with the scalar and the
+ * vector {@link LaserNarrowphase}, and checks they all hit the same asteroids.
+ *
+ * @author Jose Silva
+ */
+public class NarrowphaseBenchmark {
+
+    private static final int LASERS = 256;
+    // Laser tests per measurement, split in as many passes as the field size allows
+    private static final long TESTS_PER_RUN = 50_000_000L;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+    private static final double TIME_STEP = TickRate.HZ_60.getTimeStep();
+
+    /**
+     * Runs the benchmark, with the incubator module added to time the vector implementation.
+     *
+     * @param args The field sizes, 64 to 4096 asteroids by default.
+     */
+    public static void main(String[] args) {
+        LaserNarrowphase scalar = LaserNarrowphase.scalar();
+        LaserNarrowphase vector = LaserNarrowphase.vector();
+        if (vector == null) {
+            System.out.println("jdk.incubator.vector is not present, only timing the scalar narrowphase "
+                    + "(start the JVM with --add-modules jdk.incubator.vector)");
+        }
+        Laser[] lasers = createLasers();
+
+        for (int size : BenchmarkFields.sizes(args, 64, 256, 1_024, 4_096)) {
+            AsteroidField field = BenchmarkFields.createField(size, 0, 0, GameWorld.WIDTH, GameWorld.HEIGHT);
+            SpatialGrid grid = new SpatialGrid(GameWorld.WIDTH, GameWorld.HEIGHT, GameWorld.WIDTH);
+            grid.build(field);
+            // Reaches the whole world: every asteroid is a candidate
+            int candidates = grid.queryPacked(0, 0, Math.hypot(GameWorld.WIDTH, GameWorld.HEIGHT));
+            int passes = (int) Math.max(1, TESTS_PER_RUN / ((long) LASERS * candidates));
+
+            String mismatch = "";
+            int hits = 0;
+            for (Laser laser : lasers) {
+                for (int from = 0; from < candidates; from += LaserNarrowphase.BLOCK_SIZE) {
+                    int count = Math.min(LaserNarrowphase.BLOCK_SIZE, candidates - from);
+                    long scalarMask = scalar.hitMask(grid, from, count, laser, TIME_STEP);
+                    long vectorMask = vector != null ? vector.hitMask(grid, from, count, laser, TIME_STEP) : scalarMask;
+                    long timeMask = 0;
+                    for (int k = 0; k < count; k++) {
+                        int i = grid.getCandidate(from + k);
+                        if (CollisionDetector.laserHitTime(field, i, laser, TIME_STEP) != CollisionDetector.NO_HIT) {
+                            timeMask |= 1L << k;
+                        }
+                    }
+                    hits += Long.bitCount(timeMask);
+                    if (vectorMask != scalarMask) {
+                        mismatch = ", VECTOR AND SCALAR MASKS DIFFER";
+                    } else if (scalarMask != timeMask && mismatch.isEmpty()) {
+                        mismatch = ", MASKS DIFFER FROM laserHitTime";
+                    }
+                }
+            }
+
+            double timeNanos = time(() -> hitTimes(field, grid, candidates, lasers), passes, candidates);
+            System.out.printf("%,6d asteroids, %d hits: %-20s %6.2f ns per test%s%n", size, hits, "laserHitTime",
+                    timeNanos, mismatch);
+            double scalarNanos = time(() -> masks(scalar, grid, candidates, lasers), passes, candidates);
+            System.out.printf("%,6d asteroids, %d hits: %-20s %6.2f ns per test, %.2fx faster%n", size, hits,
+                    scalar.getName(), scalarNanos, timeNanos / scalarNanos);
+            if (vector != null) {
+                double vectorNanos = time(() -> masks(vector, grid, candidates, lasers), passes, candidates);
+                System.out.printf("%,6d asteroids, %d hits: %-20s %6.2f ns per test, %.2fx faster%n", size, hits,
+                        vector.getName(), vectorNanos, timeNanos / vectorNanos);
+            }
+        }
+    }
+
+    private static Laser[] createLasers() {
+        SplittableRandom random = new SplittableRandom(BenchmarkFields.SEED + 1);
+        Laser[] lasers = new Laser[LASERS];
+        for (int l = 0; l < LASERS; l++) {
+            double x = random.nextDouble(GameWorld.WIDTH);
+            double y = random.nextDouble(GameWorld.HEIGHT);
+            lasers[l] = new Laser();
+            lasers[l].setPosition(x, y, x, y);
+            lasers[l].setRotation(random.nextDouble(360));
+        }
+        return lasers;
+    }
+
+    /**
+     * Runs a pass for a few warm-up runs, then gives the average time of the measured runs.
+     *
+     * @return The time per laser and asteroid, in nanoseconds.
+     */
+    private static double time(Runnable pass, int passes, int candidates) {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            for (int p = 0; p < passes; p++) {
+                pass.run();
+            }
+        }
+        long start = System.nanoTime();
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            for (int p = 0; p < passes; p++) {
+                pass.run();
+            }
+        }
+        return (double) (System.nanoTime() - start) / ((long) MEASURED_RUNS * passes * LASERS * candidates);
+    }
+
+    // Keeps the results of the passes alive
+    private static long sink;
+
+    private static void hitTimes(AsteroidField field, SpatialGrid grid, int candidates, Laser[] lasers) {
+        for (Laser laser : lasers) {
+            for (int c = 0; c < candidates; c++) {
+                if (CollisionDetector.laserHitTime(field, grid.getCandidate(c), laser, TIME_STEP)
+                        != CollisionDetector.NO_HIT) {
+                    sink++;
+                }
+            }
+        }
+    }
+
+    private static void masks(LaserNarrowphase narrowphase, SpatialGrid grid, int candidates, Laser[] lasers) {
+        for (Laser laser : lasers) {
+            for (int from = 0; from < candidates; from += LaserNarrowphase.BLOCK_SIZE) {
+                int count = Math.min(LaserNarrowphase.BLOCK_SIZE, candidates - from);
+                sink += Long.bitCount(narrowphase.hitMask(grid, from, count, laser, TIME_STEP));
+            }
+        }
+    }
+}
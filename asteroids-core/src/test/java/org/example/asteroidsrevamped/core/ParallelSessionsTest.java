@@ -0,0 +1,142 @@
+package org.example.asteroidsrevamped.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs many games side by side in one JVM and checks that they don't share scores, levels, player names or entities.
+ *
+ * @author Jose Silva
+ */
+class ParallelSessionsTest {
+
+    private static final int SESSIONS = 256;
+    private static final int TICKS = 5_000;
+    // Games played at the same time, also on machines with fewer cores
+    private static final int THREADS = 16;
+
+    @Test
+    void sessionsKeepTheirOwnState() throws Exception {
+        ExecutorService games = Executors.newFixedThreadPool(THREADS);
+        // One planner thread for every session instead of one each
+        ExecutorService background = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Level planner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AsteroidArchetypes archetypes = AsteroidArchetypes.getDefault();
+
+        // The games log every level up and cleanup, keep them out of the test output
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            List<Game> sessions = new ArrayList<>();
+            for (int i = 0; i < SESSIONS; i++) {
+                sessions.add(new Game(i, archetypes, background));
+            }
+            List<Future<?>> results = new ArrayList<>();
+            for (Game game : sessions) {
+                results.add(games.submit(() -> {
+                    game.play();
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            System.setOut(out);
+            games.shutdown();
+            background.shutdown();
+        }
+    }
+
+    /**
+     * One game of the test, with the scripted pilot and what happened in it.
+     */
+    private static class Game {
+
+        private final SessionEvents events = new SessionEvents();
+        private final GameSession session;
+        private final GameWorld world;
+        // The even games fire and the odd ones don't
+        private final boolean firing;
+
+        private Game(int number, AsteroidArchetypes archetypes, ExecutorService background) {
+            this.session = new GameSession("Player " + number, events, archetypes, background);
+            this.world = new GameWorld(session);
+            this.firing = number % 2 == 0;
+        }
+
+        /**
+         * Plays the game and checks it only holds its own state.
+         */
+        private void play() {
+            Player player = world.getPlayer();
+            player.getSpaceship().rotateRight();
+            double timeStep = TickRate.HZ_240.getTimeStep();
+            try {
+                for (int tick = 0; tick < TICKS && !world.isGameOver(); tick++) {
+                    if (firing) {
+                        player.requestShot();
+                    }
+                    world.step(timeStep);
+                    assertEquals(session.getPlayerName(), player.getName(), "player name at tick " + tick);
+                    assertEquals(world.getAsteroidPool().getActiveAsteroids().size(),
+                            world.getRegistry().getAliveCount(),
+                            session.getPlayerName() + " live handles at tick " + tick);
+                }
+
+                String name = session.getPlayerName();
+                assertEquals(1 + events.levelUps.get(), world.getLevelController().getLevel(), name + " level");
+                if (firing) {
+                    assertTrue(events.lasersFired.get() > 0, name + " never fired");
+                    assertTrue(player.getScore() >= events.asteroidsDestroyed.get(), name + " score");
+                } else {
+                    assertEquals(0, events.lasersFired.get(), name + " lasers fired");
+                    assertEquals(0, events.asteroidsDestroyed.get(), name + " asteroids destroyed");
+                    assertEquals(0, player.getScore(), name + " score");
+                    assertEquals(1, world.getLevelController().getLevel(), name + " level");
+                }
+            } finally {
+                world.cleanup();
+            }
+        }
+    }
+
+    /**
+     * Counts what happened in one game.
+     */
+    private static class SessionEvents implements GameEvents {
+
+        private final AtomicInteger lasersFired = new AtomicInteger();
+        private final AtomicInteger asteroidsDestroyed = new AtomicInteger();
+        private final AtomicInteger levelUps = new AtomicInteger();
+
+        @Override
+        public void laserFired() {
+            lasersFired.incrementAndGet();
+        }
+
+        @Override
+        public void asteroidDestroyed() {
+            asteroidsDestroyed.incrementAndGet();
+        }
+
+        @Override
+        public void levelUp() {
+            levelUps.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.asteroidsrevamped.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that stepping the world allocates nothing once the game is warmed up. Runs in its own interpreted JVM (-Xint),
+ * where neither escape analysis nor the compiler can hide or add allocations.
+ *
+ * @author Jose Silva
+ */
+class StepAllocationTest {
+
+    private static final int TICKS = 20_000;
+    private static final TickRate TICK_RATE = TickRate.HZ_240;
+
+    @Test
+    void warmedUpStepsAllocateNothing() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+
+        GameWorld world = new GameWorld(GameEvents.NONE);
+        Player player = world.getPlayer();
+        player.getSpaceship().rotateRight();
+        double timeStep = TICK_RATE.getTimeStep();
+
+        // Fill the pools, grow the buffers to what the game needs and go through every path of the step once
+        for (int tick = 0; tick < TICKS; tick++) {
+            restartIfOver(world);
+            player.requestShot();
+            world.step(timeStep);
+        }
+
+        int allocatingSteps = 0;
+        long allocatedBytes = 0;
+        int firstAllocatingStep = -1;
+        for (int tick = 0; tick < TICKS; tick++) {
+            restartIfOver(world);
+            player.requestShot();
+            int level = world.getLevelController().getLevel();
+            long before = threads.getThreadAllocatedBytes(thread);
+            world.step(timeStep);
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            if (world.getLevelController().getLevel() == level && allocated > 0) {
+                if (allocatingSteps == 0) {
+                    firstAllocatingStep = tick;
+                }
+                allocatingSteps++;
+                allocatedBytes += allocated;
+            }
+        }
+        world.cleanup();
+
+        assertEquals(0, allocatedBytes, allocatingSteps + " of " + TICKS + " steps allocated, the first one step "
+                + firstAllocatingStep);
+    }
+
+    private static void restartIfOver(GameWorld world) {
+        if (world.isGameOver()) {
+            world.reset();
+        }
+    }
+}